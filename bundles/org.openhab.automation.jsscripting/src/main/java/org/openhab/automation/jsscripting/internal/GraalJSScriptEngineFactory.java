@@ -28,6 +28,7 @@ import org.openhab.core.config.core.ConfigurableService;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 
@@ -38,6 +39,7 @@ import com.oracle.truffle.js.scriptengine.GraalJSEngineFactory;
  *
  * @author Jonathan Gilbert - Initial contribution
  * @author Dan Cunningham - Script injections
+ * @author Julio Gesser - Pool of prepared engines
  */
 @Component(service = ScriptEngineFactory.class, configurationPid = "org.openhab.jsscripting", property = Constants.SERVICE_PID
         + "=org.openhab.jsscripting")
@@ -46,6 +48,7 @@ import com.oracle.truffle.js.scriptengine.GraalJSEngineFactory;
 public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
     private static final String CFG_INJECTION_ENABLED = "injectionEnabled";
     private static final String CFG_INJECTION_CACHING_ENABLED = "injectionCachingEnabled";
+    private static final String CFG_ENGINE_POOL_SIZE = "enginePoolSize";
 
     private static final GraalJSEngineFactory factory = new GraalJSEngineFactory();
 
@@ -63,6 +66,7 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
     private final JSScriptServiceUtil jsScriptServiceUtil;
     private final JSDependencyTracker jsDependencyTracker;
+    private final GraalJSScriptEnginePool enginePool = new GraalJSScriptEnginePool(this::createEngine);
 
     @Activate
     public GraalJSScriptEngineFactory(final @Reference JSScriptServiceUtil jsScriptServiceUtil,
@@ -87,8 +91,12 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
         if (!scriptTypes.contains(scriptType)) {
             return null;
         }
-        return new DebuggingGraalScriptEngine<>(new OpenhabGraalJSScriptEngine(injectionEnabled,
-                injectionCachingEnabled, jsScriptServiceUtil, jsDependencyTracker));
+        return new DebuggingGraalScriptEngine<>(enginePool.get());
+    }
+
+    private OpenhabGraalJSScriptEngine createEngine() {
+        return new OpenhabGraalJSScriptEngine(injectionEnabled, injectionCachingEnabled, jsScriptServiceUtil,
+                jsDependencyTracker);
     }
 
     @Override
@@ -101,5 +109,13 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
         this.injectionEnabled = ConfigParser.valueAsOrElse(config.get(CFG_INJECTION_ENABLED), Boolean.class, true);
         this.injectionCachingEnabled = ConfigParser.valueAsOrElse(config.get(CFG_INJECTION_CACHING_ENABLED),
                 Boolean.class, true);
+        // prepared engines may have been created with the previous configuration
+        enginePool.clear();
+        enginePool.setSize(ConfigParser.valueAsOrElse(config.get(CFG_ENGINE_POOL_SIZE), Integer.class, 0));
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        enginePool.setSize(0);
     }
 }
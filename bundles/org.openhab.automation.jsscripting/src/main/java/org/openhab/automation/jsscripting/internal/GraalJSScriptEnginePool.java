@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of {@link OpenhabGraalJSScriptEngine}s that have been prepared in the background, so that creating the
+ * context and evaluating the globals does not delay the first invocation of a script.
+ *
+ * Engines are never returned to the pool, each engine is handed out once and the pool is refilled in the background.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+class GraalJSScriptEnginePool {
+
+    private static final String THREAD_POOL_NAME = "jsscripting";
+
+    private final Logger logger = LoggerFactory.getLogger(GraalJSScriptEnginePool.class);
+
+    private final ExecutorService executor = ThreadPoolManager.getPool(THREAD_POOL_NAME);
+    private final Supplier<OpenhabGraalJSScriptEngine> engineFactory;
+
+    private final Deque<OpenhabGraalJSScriptEngine> idleEngines = new ArrayDeque<>();
+    private int size = 0;
+    private int pendingEngines = 0;
+    // incremented when the idle engines are discarded, engines of older generations are not added to the pool
+    private long generation = 0;
+
+    /**
+     * @param engineFactory creates a new engine with the current configuration
+     */
+    GraalJSScriptEnginePool(Supplier<OpenhabGraalJSScriptEngine> engineFactory) {
+        this.engineFactory = engineFactory;
+    }
+
+    /**
+     * Takes a prepared engine from the pool, or creates a new engine if the pool is empty.
+     *
+     * @return the engine
+     */
+    OpenhabGraalJSScriptEngine get() {
+        OpenhabGraalJSScriptEngine engine;
+        synchronized (this) {
+            engine = idleEngines.poll();
+        }
+        if (engine == null) {
+            engine = createEngine();
+        } else {
+            logger.debug("Took prepared GraalJS script engine from the pool.");
+        }
+        refill();
+        return engine;
+    }
+
+    /**
+     * Changes the number of prepared engines that are kept in the pool.
+     *
+     * @param size the number of engines, 0 disables the pool
+     */
+    void setSize(int size) {
+        List<OpenhabGraalJSScriptEngine> removedEngines = new ArrayList<>();
+        synchronized (this) {
+            this.size = Math.max(0, size);
+            while (idleEngines.size() > this.size) {
+                removedEngines.add(idleEngines.removeLast());
+            }
+        }
+        removedEngines.forEach(OpenhabGraalJSScriptEngine::close);
+        refill();
+    }
+
+    /**
+     * Discards all prepared engines, e.g. because they have been created with an outdated configuration. The pool is
+     * refilled in the background.
+     */
+    void clear() {
+        List<OpenhabGraalJSScriptEngine> removedEngines;
+        synchronized (this) {
+            generation++;
+            removedEngines = new ArrayList<>(idleEngines);
+            idleEngines.clear();
+        }
+        removedEngines.forEach(OpenhabGraalJSScriptEngine::close);
+        refill();
+    }
+
+    private void refill() {
+        long currentGeneration;
+        int missingEngines;
+        synchronized (this) {
+            currentGeneration = generation;
+            missingEngines = size - idleEngines.size() - pendingEngines;
+            if (missingEngines > 0) {
+                pendingEngines += missingEngines;
+            }
+        }
+        for (int i = 0; i < missingEngines; i++) {
+            executor.execute(() -> prepareEngine(currentGeneration));
+        }
+    }
+
+    private void prepareEngine(long engineGeneration) {
+        OpenhabGraalJSScriptEngine engine = null;
+        try {
+            long start = System.nanoTime();
+            engine = createEngine();
+            engine.prepare();
+            logger.debug("Prepared GraalJS script engine in {} ms.",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to prepare GraalJS script engine: {}", e.getMessage());
+            if (engine != null) {
+                engine.close();
+                engine = null;
+            }
+        }
+
+        boolean added = false;
+        synchronized (this) {
+            pendingEngines--;
+            if (engine != null && engineGeneration == generation && idleEngines.size() < size) {
+                idleEngines.add(engine);
+                added = true;
+            }
+        }
+        if (engine != null && !added) {
+            engine.close();
+            // the pool has been cleared in the meantime, make sure it is filled with current engines
+            refill();
+        }
+    }
+
+    private OpenhabGraalJSScriptEngine createEngine() {
+        long start = System.nanoTime();
+        OpenhabGraalJSScriptEngine engine = engineFactory.get();
+        logger.debug("Created GraalJS script engine in {} ms.",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return engine;
+    }
+}
@@ -69,6 +69,7 @@ import com.oracle.truffle.js.scriptengine.GraalJSScriptEngine;
  * @author Florian Hotze - Create lock object for multi-thread synchronization; Inject the {@link JSRuntimeFeatures}
  *         into the JS context; Fix memory leak caused by HostObject by making HostAccess reference static; Switch to
  *         {@link Lock} for multi-thread synchronization; globals and openhab-js injection code caching
+ * @author Julio Gesser - Prepare engines ahead of their first invocation
  */
 public class OpenhabGraalJSScriptEngine
         extends InvocationInterceptingScriptEngineWithInvocableAndCompilableAndAutoCloseable<GraalJSScriptEngine>
@@ -141,6 +142,7 @@ public class OpenhabGraalJSScriptEngine
     private @Nullable Consumer<String> scriptDependencyListener;
     private String engineIdentifier; // this field is very helpful for debugging, please do not remove it
 
+    private boolean prepared = false;
     private boolean initialized = false;
     private final boolean injectionEnabled;
     private final boolean injectionCachingEnabled;
@@ -238,6 +240,7 @@ public class OpenhabGraalJSScriptEngine
             return;
         }
 
+        long start = System.nanoTime();
         ScriptContext ctx = delegate.getContext();
         if (ctx == null) {
             throw new IllegalStateException("Failed to retrieve script context");
@@ -274,17 +277,11 @@ public class OpenhabGraalJSScriptEngine
         delegate.getBindings(ScriptContext.ENGINE_SCOPE).put(REQUIRE_WRAPPER_NAME, wrapRequireFn);
         delegate.put("require", wrapRequireFn.apply((Function<Object[], Object>) delegate.get("require")));
 
-        // Injections into the JS runtime
-        jsRuntimeFeatures.getFeatures().forEach((key, obj) -> {
-            logger.debug("Injecting {} into the JS runtime...", key);
-            delegate.put(key, obj);
-        });
+        prepare();
 
         initialized = true;
 
         try {
-            logger.debug("Evaluating cached global script...");
-            delegate.getPolyglotContext().eval(GLOBAL_SOURCE);
             if (this.injectionEnabled) {
                 if (this.injectionCachingEnabled) {
                     logger.debug("Evaluating cached openhab-js injection...");
@@ -294,12 +291,39 @@ public class OpenhabGraalJSScriptEngine
                     eval(OPENHAB_JS_INJECTION_CODE);
                 }
             }
-            logger.debug("Successfully initialized GraalJS script engine.");
+            logger.debug("Successfully initialized GraalJS script engine '{}' in {} ms.", engineIdentifier,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         } catch (ScriptException e) {
             logger.error("Could not inject global script", e);
         }
     }
 
+    /**
+     * Injects the runtime features and evaluates the global script into the JS runtime. Neither depends on the script
+     * the engine is used for, so engines can be prepared before they are handed out. Otherwise this is done on first
+     * invocation.
+     */
+    public void prepare() {
+        lock.lock();
+        try {
+            if (prepared) {
+                return;
+            }
+
+            // Injections into the JS runtime
+            jsRuntimeFeatures.getFeatures().forEach((key, obj) -> {
+                logger.debug("Injecting {} into the JS runtime...", key);
+                delegate.put(key, obj);
+            });
+
+            logger.debug("Evaluating cached global script...");
+            delegate.getPolyglotContext().eval(GLOBAL_SOURCE);
+            prepared = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     protected Object afterInvocation(Object obj) {
         lock.unlock();
@@ -15,13 +15,19 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -71,6 +77,7 @@ import tuwien.auto.calimero.secure.Security;
  * KNX Client which encapsulates the communication with the KNX bus via the calimero library.
  *
  * @author Simon Kaufmann - initial contribution and API.
+ * @author Julio Gesser - Group address index and ordered dispatch queue for the listeners
  *
  */
 @NonNullByDefault
@@ -107,14 +114,23 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
+    // the listeners per group address, and the group addresses each listener was indexed with
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> listenerGroupAddresses = new HashMap<>();
     private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    // notifications are dispatched by a single task at a time, in the order the telegrams were received
+    private final Queue<Notification> notifications = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatching = new AtomicBoolean();
 
     @FunctionalInterface
     private interface ListenerNotification {
         void apply(BusMessageListener listener, IndividualAddress source, GroupAddress destination, byte[] asdu);
     }
 
+    private record Notification(GroupAddressListener listener, ListenerNotification action, IndividualAddress source,
+            GroupAddress destination, byte[] asdu, long receivedNanos) {
+    }
+
     @NonNullByDefault({})
     private final ProcessListener processListener = new ProcessListener() {
 
@@ -341,13 +357,19 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
+        long receivedNanos = System.nanoTime();
         boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
+        Set<GroupAddressListener> listeners = groupAddressListeners.get(destination);
+        if (listeners != null) {
+            for (GroupAddressListener listener : listeners) {
                 isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
+                notifications.add(new Notification(listener, action, source, destination, asdu, receivedNanos));
+            }
+            if (isHandled && dispatching.compareAndSet(false, true)) {
+                knxScheduler.execute(this::dispatchNotifications);
             }
         }
+        commandExtensionData.busStatistics().telegramReceived(isHandled);
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
         if (!isHandled) {
@@ -364,6 +386,23 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
+    private void dispatchNotifications() {
+        do {
+            BusStatistics busStatistics = commandExtensionData.busStatistics();
+            Notification n;
+            while ((n = notifications.poll()) != null) {
+                busStatistics.notificationDispatched(System.nanoTime() - n.receivedNanos());
+                try {
+                    n.action().apply(n.listener(), n.source(), n.destination(), n.asdu());
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to notify {} about a telegram to '{}'", n.listener(), n.destination(), e);
+                }
+            }
+            dispatching.set(false);
+            // a notification may have been added after the queue was found empty, but before the flag was reset
+        } while (!notifications.isEmpty() && dispatching.compareAndSet(false, true));
+    }
+
     // datapoint is null at end of the list, warning is misleading
     @SuppressWarnings("null")
     private void readNextQueuedDatapoint() {
@@ -415,6 +454,12 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         cancelReconnectJob();
         disconnect(null);
+
+        synchronized (listenerGroupAddresses) {
+            listenerGroupAddresses.clear();
+            groupAddressListeners.clear();
+        }
+        notifications.clear();
     }
 
     @Override
@@ -520,12 +565,34 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        synchronized (listenerGroupAddresses) {
+            // registering again updates the index with the current group addresses of the listener
+            removeFromIndex(listener);
+            Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfAbsent(groupAddress, ga -> new CopyOnWriteArraySet<>()).add(listener);
+            }
+            listenerGroupAddresses.put(listener, groupAddresses);
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        synchronized (listenerGroupAddresses) {
+            removeFromIndex(listener);
+        }
+    }
+
+    private void removeFromIndex(GroupAddressListener listener) {
+        Set<GroupAddress> groupAddresses = listenerGroupAddresses.remove(listener);
+        if (groupAddresses != null) {
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfPresent(groupAddress, (ga, listeners) -> {
+                    listeners.remove(listener);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Counts the group telegrams received from the KNX bus and measures how long the notifications of the listeners wait
+ * in the dispatch queue. Can be shown on console using knx:statistics.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class BusStatistics {
+
+    /**
+     * The statistics since the last reset.
+     *
+     * @param period time since the last reset
+     * @param telegrams number of group telegrams received
+     * @param unknownTelegrams number of group telegrams to group addresses that are not configured in openHAB
+     * @param notifications number of listener notifications dispatched
+     * @param averageLatency average time between receiving a telegram and notifying a listener
+     * @param maxLatency maximum time between receiving a telegram and notifying a listener
+     */
+    public record Snapshot(Duration period, long telegrams, long unknownTelegrams, long notifications,
+            Duration averageLatency, Duration maxLatency) {
+
+        /**
+         * @return the average number of group telegrams per minute
+         */
+        public double telegramsPerMinute() {
+            long millis = period.toMillis();
+            return millis > 0 ? telegrams * 60_000.0 / millis : 0;
+        }
+    }
+
+    private final LongAdder telegrams = new LongAdder();
+    private final LongAdder unknownTelegrams = new LongAdder();
+    private final LongAdder notifications = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private volatile long startNanos = System.nanoTime();
+
+    void telegramReceived(boolean handled) {
+        telegrams.increment();
+        if (!handled) {
+            unknownTelegrams.increment();
+        }
+    }
+
+    void notificationDispatched(long latencyNanos) {
+        notifications.increment();
+        this.latencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public Snapshot snapshot() {
+        long notifications = this.notifications.sum();
+        return new Snapshot(Duration.ofNanos(System.nanoTime() - startNanos), telegrams.sum(), unknownTelegrams.sum(),
+                notifications, Duration.ofNanos(notifications > 0 ? latencyNanos.sum() / notifications : 0),
+                Duration.ofNanos(maxLatencyNanos.get()));
+    }
+
+    public void reset() {
+        telegrams.reset();
+        unknownTelegrams.reset();
+        notifications.reset();
+        latencyNanos.reset();
+        maxLatencyNanos.set(0);
+        startNanos = System.nanoTime();
+    }
+}
@@ -13,11 +13,13 @@
 package org.openhab.binding.knx.internal.console;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map.Entry;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.KNXBindingConstants;
+import org.openhab.binding.knx.internal.client.BusStatistics;
 import org.openhab.binding.knx.internal.factory.KNXHandlerFactory;
 import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler;
 import org.openhab.core.io.console.Console;
@@ -33,13 +35,19 @@ import org.osgi.service.component.annotations.Reference;
  * The {@link KNXCommandExtension} is responsible for handling console commands
  *
  * @author Holger Friedrich - Initial contribution
+ * @author Julio Gesser - Bus statistics command
  */
 @NonNullByDefault
 @Component(service = ConsoleCommandExtension.class)
 public class KNXCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
 
     private static final String CMD_LIST_UNKNOWN_GA = "list-unknown-ga";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST_UNKNOWN_GA), false);
+    private static final String CMD_STATISTICS = "statistics";
+    private static final String SUBCMD_RESET = "reset";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST_UNKNOWN_GA, CMD_STATISTICS), false);
+    private static final StringsCompleter SUBCMD_STATISTICS_COMPLETER = new StringsCompleter(List.of(SUBCMD_RESET),
+            false);
 
     private final KNXHandlerFactory knxHandlerFactory;
 
@@ -60,14 +68,34 @@ public class KNXCommandExtension extends AbstractConsoleCommandExtension impleme
                 }
             }
             return;
+        } else if (args.length >= 1 && CMD_STATISTICS.equalsIgnoreCase(args[0])) {
+            boolean reset = args.length == 2 && SUBCMD_RESET.equalsIgnoreCase(args[1]);
+            for (KNXBridgeBaseThingHandler bridgeHandler : knxHandlerFactory.getBridges()) {
+                BusStatistics busStatistics = bridgeHandler.getCommandExtensionData().busStatistics();
+                BusStatistics.Snapshot snapshot = busStatistics.snapshot();
+                console.println("KNX bridge \"" + bridgeHandler.getThing().getLabel() + "\": statistics of the last "
+                        + snapshot.period().toSeconds() + " s");
+                console.println(String.format(Locale.ROOT,
+                        "  telegrams: %d (%.1f per minute), to unknown group addresses: %d", snapshot.telegrams(),
+                        snapshot.telegramsPerMinute(), snapshot.unknownTelegrams()));
+                console.println(String.format(Locale.ROOT,
+                        "  notifications: %d, dispatch latency average: %.3f ms, maximum: %.3f ms",
+                        snapshot.notifications(), snapshot.averageLatency().toNanos() / 1_000_000.0,
+                        snapshot.maxLatency().toNanos() / 1_000_000.0));
+                if (reset) {
+                    busStatistics.reset();
+                }
+            }
+            return;
         }
         printUsage(console);
     }
 
     @Override
     public List<String> getUsages() {
-        return List
-                .of(buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"));
+        return List.of(buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"),
+                buildCommandUsage(CMD_STATISTICS + " [" + SUBCMD_RESET + "]",
+                        "show bus load and dispatch latency of received telegrams, optionally reset them"));
     }
 
     @Override
@@ -79,6 +107,8 @@ public class KNXCommandExtension extends AbstractConsoleCommandExtension impleme
     public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
         if (cursorArgumentIndex <= 0) {
             return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        } else if (cursorArgumentIndex == 1 && CMD_STATISTICS.equalsIgnoreCase(args[0])) {
+            return SUBCMD_STATISTICS_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
         }
         return false;
     }
@@ -80,6 +80,7 @@ import tuwien.auto.calimero.datapoint.Datapoint;
  *
  * @author Simon Kaufmann - Initial contribution and API
  * @author Jan N. Klug - Refactored for performance
+ * @author Julio Gesser - Expose the group addresses
  */
 @NonNullByDefault
 public class DeviceThingHandler extends BaseThingHandler implements GroupAddressListener {
@@ -248,6 +249,11 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         return groupAddresses.contains(destination);
     }
 
+    @Override
+    public Set<GroupAddress> getGroupAddresses() {
+        return groupAddresses;
+    }
+
     /** Handling commands triggered from openHAB */
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
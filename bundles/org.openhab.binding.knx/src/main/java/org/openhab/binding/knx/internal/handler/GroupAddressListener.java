@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.knx.internal.client.BusMessageListener;
 
@@ -23,6 +25,7 @@ import tuwien.auto.calimero.GroupAddress;
  * on the KNX bus
  *
  * @author Karel Goderis - Initial contribution
+ * @author Julio Gesser - Expose the group addresses for the index of the client
  */
 @NonNullByDefault
 public interface GroupAddressListener extends BusMessageListener {
@@ -33,4 +36,10 @@ public interface GroupAddressListener extends BusMessageListener {
      * @param destination
      */
     boolean listensTo(GroupAddress destination);
+
+    /**
+     * Returns the group addresses the GroupAddressListener has an interest in. The client indexes the listener by
+     * these addresses when it is registered, so it needs to be registered again if they change.
+     */
+    Set<GroupAddress> getGroupAddresses();
 }
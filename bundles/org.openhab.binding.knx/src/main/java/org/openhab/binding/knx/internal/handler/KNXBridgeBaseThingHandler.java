@@ -28,6 +28,7 @@ import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.knx.internal.client.BusStatistics;
 import org.openhab.binding.knx.internal.client.KNXClient;
 import org.openhab.binding.knx.internal.client.StatusUpdateCallback;
 import org.openhab.core.OpenHAB;
@@ -56,6 +57,7 @@ import tuwien.auto.calimero.xml.KNXMLException;
  *
  * @author Simon Kaufmann - Initial contribution and API
  * @author Holger Friedrich - KNX Secure configuration
+ * @author Julio Gesser - Bus statistics
  */
 @NonNullByDefault
 public abstract class KNXBridgeBaseThingHandler extends BaseBridgeHandler implements StatusUpdateCallback {
@@ -86,7 +88,7 @@ public abstract class KNXBridgeBaseThingHandler extends BaseBridgeHandler implem
      * Helper class to carry information which can be used by the
      * command line extension (openHAB console).
      */
-    public record CommandExtensionData(SortedMap<String, Long> unknownGA) {
+    public record CommandExtensionData(SortedMap<String, Long> unknownGA, BusStatistics busStatistics) {
     }
 
     private final ScheduledExecutorService knxScheduler = ThreadPoolManager.getScheduledPool("knx");
@@ -107,7 +109,7 @@ public abstract class KNXBridgeBaseThingHandler extends BaseBridgeHandler implem
         openhabSecurity = Security.newSecurity();
         secureRouting = new SecureRoutingConfig();
         secureTunnel = new SecureTunnelConfig();
-        commandExtensionData = new CommandExtensionData(new TreeMap<>());
+        commandExtensionData = new CommandExtensionData(new TreeMap<>(), new BusStatistics());
     }
 
     protected abstract KNXClient getClient();
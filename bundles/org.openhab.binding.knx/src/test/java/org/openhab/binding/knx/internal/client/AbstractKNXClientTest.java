@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler.CommandExtensionData;
+import org.openhab.core.thing.ThingUID;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.IndividualAddress;
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.link.KNXNetworkLink;
+import tuwien.auto.calimero.process.ProcessCommunicator;
+import tuwien.auto.calimero.process.ProcessCommunicatorImpl;
+import tuwien.auto.calimero.secure.Security;
+
+/**
+ * Tests the group address index and the ordered dispatch of telegrams to the listeners of {@link AbstractKNXClient}.
+ * Telegrams are sent through a {@link DummyKNXNetworkLink}, which loops them back to the client.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+class AbstractKNXClientTest {
+    private static final GroupAddress GA1 = new GroupAddress(1, 1, 1);
+    private static final GroupAddress GA2 = new GroupAddress(1, 1, 2);
+    private static final GroupAddress GA3 = new GroupAddress(1, 1, 3);
+
+    private final DummyKNXNetworkLink link = new DummyKNXNetworkLink();
+    private final CommandExtensionData commandExtensionData = new CommandExtensionData(new TreeMap<>(),
+            new BusStatistics());
+
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @NonNullByDefault({}) AbstractKNXClient client;
+    private @NonNullByDefault({}) ProcessCommunicator sender;
+
+    @BeforeEach
+    void setUp() throws KNXException {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        client = new AbstractKNXClient(0, new ThingUID("knx", "ip", "test"), 1, 50, 1, scheduler,
+                commandExtensionData, Security.newSecurity(), mock(StatusUpdateCallback.class)) {
+            @Override
+            protected KNXNetworkLink establishConnection() {
+                return link;
+            }
+        };
+        client.initialize();
+        assertTrue(client.isConnected());
+        sender = new ProcessCommunicatorImpl(link);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.close();
+        client.dispose();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void telegramsAreDispatchedToTheListenersOfTheirGroupAddress() throws KNXException, InterruptedException {
+        RecordingListener listener1 = new RecordingListener(GA1);
+        RecordingListener listener12 = new RecordingListener(GA1, GA2);
+        client.registerGroupAddressListener(listener1);
+        client.registerGroupAddressListener(listener12);
+
+        listener1.expect(1);
+        listener12.expect(2);
+        write(GA1, 1);
+        write(GA2, 2);
+        write(GA3, 3);
+        listener1.await();
+        listener12.await();
+
+        assertEquals(List.of("1/1/1=1"), listener1.telegrams);
+        assertEquals(List.of("1/1/1=1", "1/1/2=2"), listener12.telegrams);
+        assertEquals(1, commandExtensionData.unknownGA().size());
+    }
+
+    @Test
+    void telegramsAreDispatchedInOrderOfReception() throws KNXException, InterruptedException {
+        RecordingListener listener = new RecordingListener(GA1);
+        client.registerGroupAddressListener(listener);
+
+        List<String> expected = new ArrayList<>();
+        listener.expect(100);
+        for (int i = 0; i < 100; i++) {
+            write(GA1, i);
+            expected.add("1/1/1=" + i);
+        }
+        listener.await();
+
+        assertEquals(expected, listener.telegrams);
+        assertEquals(100, commandExtensionData.busStatistics().snapshot().notifications());
+    }
+
+    @Test
+    void registeringAgainUpdatesTheGroupAddresses() throws KNXException, InterruptedException {
+        RecordingListener listener = new RecordingListener(GA1);
+        client.registerGroupAddressListener(listener);
+        listener.groupAddresses = Set.of(GA2);
+        client.registerGroupAddressListener(listener);
+
+        listener.expect(1);
+        // a telegram to the old group address would be dispatched before the second one
+        write(GA1, 1);
+        write(GA2, 2);
+        listener.await();
+
+        assertEquals(List.of("1/1/2=2"), listener.telegrams);
+    }
+
+    @Test
+    void unregisteredListenerIsNotNotified() throws KNXException, InterruptedException {
+        RecordingListener unregistered = new RecordingListener(GA1);
+        RecordingListener registered = new RecordingListener(GA1);
+        client.registerGroupAddressListener(unregistered);
+        client.registerGroupAddressListener(registered);
+        client.unregisterGroupAddressListener(unregistered);
+
+        registered.expect(1);
+        write(GA1, 1);
+        registered.await();
+
+        assertEquals(List.of("1/1/1=1"), registered.telegrams);
+        assertEquals(List.of(), unregistered.telegrams);
+    }
+
+    private void write(GroupAddress groupAddress, int value) throws KNXException, InterruptedException {
+        // the dummy link loops the telegram back synchronously, so the client has queued it when this returns
+        sender.write(new CommandDP(groupAddress, "test", 0, "5.010"), String.valueOf(value));
+    }
+
+    private static class RecordingListener implements GroupAddressListener {
+        private final List<String> telegrams = new CopyOnWriteArrayList<>();
+        private volatile Set<GroupAddress> groupAddresses;
+        private volatile CountDownLatch latch = new CountDownLatch(0);
+
+        RecordingListener(GroupAddress... groupAddresses) {
+            this.groupAddresses = Set.of(groupAddresses);
+        }
+
+        void expect(int telegrams) {
+            latch = new CountDownLatch(telegrams);
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Telegrams were not dispatched in time");
+        }
+
+        @Override
+        public boolean listensTo(GroupAddress destination) {
+            return groupAddresses.contains(destination);
+        }
+
+        @Override
+        public Set<GroupAddress> getGroupAddresses() {
+            return groupAddresses;
+        }
+
+        @Override
+        public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+            telegrams.add(destination + "=" + (asdu[0] & 0xff));
+            latch.countDown();
+        }
+
+        @Override
+        public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+
+        @Override
+        public void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.openhab.binding.mqtt.generic.mapping.ColorMode;
  * You may want to extend this for channel configurations of MQTT extensions.
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Ignore unchanged values
  */
 @NonNullByDefault
 public class ChannelConfig {
@@ -42,6 +43,8 @@ public class ChannelConfig {
      * this.
      */
     public boolean postCommand = false;
+    /** If true, a message that does not change the channel state does not update it again. */
+    public boolean ignoreUnchanged = false;
     public @Nullable Integer qos;
     public boolean retained = false;
     /** If true, the state topic will not update a state, but trigger a channel instead. */
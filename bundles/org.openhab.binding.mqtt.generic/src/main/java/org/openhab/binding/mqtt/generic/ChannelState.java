@@ -44,6 +44,7 @@ import org.slf4j.LoggerFactory;
  * Updates to the value are propagated via the {@link ChannelStateUpdateListener}.
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Parse values without the type parser where possible, ignore unchanged values
  */
 @NonNullByDefault
 public class ChannelState implements MqttMessageSubscriber {
@@ -185,7 +186,10 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
-        Command command = TypeParser.parseCommand(cachedValue.getSupportedCommandTypes(), strValue);
+        Command command = cachedValue.parseValue(strValue);
+        if (command == null) {
+            command = TypeParser.parseCommand(cachedValue.getSupportedCommandTypes(), strValue);
+        }
         if (command == null) {
             logger.warn("Incoming payload '{}' on '{}' not supported by type '{}'", strValue, topic,
                     cachedValue.getClass().getSimpleName());
@@ -204,6 +208,7 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        State oldState = cachedValue.getChannelState();
         if (parsedType instanceof State parsedState) {
             cachedValue.update(parsedState);
         } else {
@@ -219,6 +224,8 @@ public class ChannelState implements MqttMessageSubscriber {
         // (i.e. not UNDEF)
         if (config.postCommand && newState instanceof Command newCommand) {
             channelStateUpdateListener.postChannelCommand(channelUID, newCommand);
+        } else if (config.ignoreUnchanged && newState.equals(oldState)) {
+            logger.trace("Ignoring unchanged state '{}' of channel '{}'", newState, channelUID);
         } else {
             channelStateUpdateListener.updateChannelState(channelUID, newState);
         }
@@ -95,6 +95,7 @@ import org.slf4j.LoggerFactory;
  * UTF-8 strings.
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Optionally receive the attributes through a wildcard subscription
  */
 @NonNullByDefault
 public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTTtopic.FieldChanged {
@@ -107,6 +108,7 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
     protected transient AttributeChanged attributeChangedListener = (b, c, d, e, f) -> {
     };
     private transient boolean complete = false;
+    private transient @Nullable WildcardSubscription wildcardSubscription;
 
     /**
      * Implement this interface to be notified of an updated field.
@@ -131,12 +133,38 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
         prefix = (topicUsesPrefix != null) ? topicUsesPrefix.value() : "";
     }
 
+    /**
+     * Receive the attributes through the given wildcard subscription instead of subscribing to each attribute topic on
+     * the broker. Must be set before {@link #subscribeAndReceive(MqttBrokerConnection, ScheduledExecutorService,
+     * String, AttributeChanged, int)} is called.
+     *
+     * @param wildcardSubscription A wildcard subscription covering all attribute topics, or null to subscribe to each
+     *            attribute topic.
+     */
+    public void setWildcardSubscription(@Nullable WildcardSubscription wildcardSubscription) {
+        this.wildcardSubscription = wildcardSubscription;
+    }
+
+    /**
+     * Return the wildcard subscription the attributes are received through, or null.
+     */
+    public @Nullable WildcardSubscription getWildcardSubscription() {
+        return wildcardSubscription;
+    }
+
     /**
      * Unsubscribe from all topics of the managed object.
      *
      * @return Returns a future that completes as soon as all unsubscriptions have been performed.
      */
     public CompletableFuture<@Nullable Void> unsubscribe() {
+        final WildcardSubscription wildcardSubscription = this.wildcardSubscription;
+        if (wildcardSubscription != null) {
+            subscriptions.forEach(m -> wildcardSubscription.unsubscribe(m.topic, m));
+            subscriptions.clear();
+            return CompletableFuture.completedFuture(null);
+        }
+
         final MqttBrokerConnection connection = this.connection.get();
         if (connection == null) {
             subscriptions.clear();
@@ -189,8 +217,11 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
         subscriptions = getAllFields(getFieldsOf().getClass()).stream().filter(AbstractMqttAttributeClass::filterField)
                 .map(this::mapFieldToSubscriber).collect(Collectors.toList());
 
+        final WildcardSubscription wildcardSubscription = this.wildcardSubscription;
         final CompletableFuture<?>[] futures = subscriptions.stream()
-                .map(m -> m.subscribeAndReceive(connection, timeout)).toArray(CompletableFuture[]::new);
+                .map(m -> wildcardSubscription != null ? m.subscribeAndReceive(wildcardSubscription, timeout)
+                        : m.subscribeAndReceive(connection, timeout))
+                .toArray(CompletableFuture[]::new);
         return CompletableFuture.allOf(startFuture, CompletableFuture.allOf(futures));
     }
 
@@ -35,6 +35,7 @@ import org.slf4j.LoggerFactory;
  * Used by {@link AbstractMqttAttributeClass}.
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Receive the topic through a wildcard subscription
  */
 @NonNullByDefault
 public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
@@ -205,6 +206,24 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
         return future;
     }
 
+    /**
+     * Receive the MQTT topic through a wildcard subscription instead of subscribing to it on the broker. You need to
+     * manually unsubscribe from the {@link #topic} of the wildcard subscription before disposing.
+     *
+     * @param subscription A wildcard subscription that covers the topic.
+     * @param timeout Timeout in milliseconds. The returned future completes after this time even if no message has
+     *            been received for the MQTT topic. The ready topic of the wildcard subscription is not relied on,
+     *            because retained messages of different topics may arrive in any order.
+     * @return Returns a future that completes if either a value is received for the topic or a timeout happens.
+     */
+    public CompletableFuture<@Nullable Void> subscribeAndReceive(WildcardSubscription subscription, int timeout) {
+        subscription.subscribe(topic, this);
+        if (!future.isDone()) {
+            this.scheduledFuture = scheduler.schedule(this::timeoutReached, timeout, TimeUnit.MILLISECONDS);
+        }
+        return future;
+    }
+
     /**
      * Return true if the corresponding field has received a value at least once.
      */
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.mapping;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscribes to all topics below a base topic with a single wildcard subscription and passes the received messages to
+ * local subscribers of the individual topics. The last payload of each attribute topic (the last topic level starts
+ * with a "$") is kept, so that a subscriber that is added later immediately receives the retained value of its topic.
+ * Payloads of other topics, e.g. property values, are only passed to the current subscribers.
+ *
+ * This replaces a broker subscription per attribute of an {@link AbstractMqttAttributeClass} by one subscription, see
+ * {@link AbstractMqttAttributeClass#setWildcardSubscription(WildcardSubscription)}.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class WildcardSubscription implements MqttMessageSubscriber {
+    private final Logger logger = LoggerFactory.getLogger(WildcardSubscription.class);
+    private final String topic;
+    private final String readyTopic;
+    private final Map<String, byte[]> payloads = new ConcurrentHashMap<>();
+    private final Map<String, Set<MqttMessageSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final CompletableFuture<@Nullable Void> bootstrapFuture = new CompletableFuture<>();
+    private @Nullable MqttBrokerConnection connection;
+    private @Nullable ScheduledFuture<?> scheduledFuture;
+    private long startNanos;
+
+    /**
+     * Create a {@link WildcardSubscription}.
+     *
+     * @param basetopic The base topic. All topics below it are subscribed.
+     * @param readyTopic The topic that is received after the retained topics that are needed for the bootstrap, e.g.
+     *            the state topic of a device.
+     */
+    public WildcardSubscription(String basetopic, String readyTopic) {
+        this.topic = basetopic + "/#";
+        this.readyTopic = readyTopic;
+    }
+
+    /**
+     * Subscribe to the wildcard topic.
+     *
+     * @param connection An MQTT connection.
+     * @param scheduler A scheduler for the timeout.
+     * @param timeout Timeout in milliseconds. The returned future completes after this time even if the ready topic
+     *            has not been received.
+     * @return Returns a future that completes as soon as the ready topic has been received or the timeout happened.
+     */
+    public CompletableFuture<@Nullable Void> start(MqttBrokerConnection connection, ScheduledExecutorService scheduler,
+            int timeout) {
+        this.connection = connection;
+        startNanos = System.nanoTime();
+        connection.subscribe(topic, this).exceptionally(e -> {
+            logger.debug("Failed to subscribe to topic {}", topic, e);
+            bootstrapFuture.complete(null);
+            return false;
+        }).thenRun(() -> {
+            if (!bootstrapFuture.isDone()) {
+                scheduledFuture = scheduler.schedule(this::timeoutReached, timeout, TimeUnit.MILLISECONDS);
+            }
+        });
+        return bootstrapFuture;
+    }
+
+    /**
+     * Unsubscribe from the wildcard topic and forget all subscribers and payloads.
+     *
+     * @return Completes with true if successful. Exceptionally otherwise.
+     */
+    public CompletableFuture<Boolean> stop() {
+        cancelTimeout();
+        bootstrapFuture.complete(null);
+        subscribers.clear();
+        payloads.clear();
+        final MqttBrokerConnection connection = this.connection;
+        this.connection = null;
+        return connection == null ? CompletableFuture.completedFuture(true) : connection.unsubscribe(topic, this);
+    }
+
+    /**
+     * Add a subscriber for a single topic below the base topic. If a payload has already been received for this
+     * topic, it is passed to the subscriber immediately.
+     *
+     * @param topic The full topic, without wildcards.
+     * @param subscriber The subscriber.
+     */
+    public void subscribe(String topic, MqttMessageSubscriber subscriber) {
+        subscribers.computeIfAbsent(topic, t -> new CopyOnWriteArraySet<>()).add(subscriber);
+        byte[] payload = payloads.get(topic);
+        if (payload != null) {
+            subscriber.processMessage(topic, payload);
+        }
+    }
+
+    /**
+     * Remove a subscriber of a single topic.
+     *
+     * @param topic The full topic.
+     * @param subscriber The subscriber.
+     */
+    public void unsubscribe(String topic, MqttMessageSubscriber subscriber) {
+        subscribers.computeIfPresent(topic, (t, s) -> {
+            s.remove(subscriber);
+            return s.isEmpty() ? null : s;
+        });
+    }
+
+    @Override
+    public void processMessage(String topic, byte[] payload) {
+        if (payload.length == 0) {
+            payloads.remove(topic);
+        } else if (topic.startsWith("$", topic.lastIndexOf('/') + 1)) {
+            payloads.put(topic, payload);
+        }
+        Set<MqttMessageSubscriber> topicSubscribers = subscribers.get(topic);
+        if (topicSubscribers != null) {
+            topicSubscribers.forEach(s -> s.processMessage(topic, payload));
+        }
+        if (readyTopic.equals(topic) && !bootstrapFuture.isDone()) {
+            cancelTimeout();
+            logger.debug("Received {} retained topics of {} in {} ms", payloads.size(), this.topic,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            bootstrapFuture.complete(null);
+        }
+    }
+
+    private void timeoutReached() {
+        logger.debug("Did not receive {} within the timeout, received {} retained topics of {}", readyTopic,
+                payloads.size(), topic);
+        bootstrapFuture.complete(null);
+    }
+
+    private void cancelTimeout() {
+        final ScheduledFuture<?> scheduledFuture = this.scheduledFuture;
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+            this.scheduledFuture = null;
+        }
+    }
+}
@@ -44,6 +44,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author David Graeff - Initial contribution
  * @author Aitor Iturrioz - Add CIE xyY colors support
+ * @author Julio Gesser - Parse MQTT values without trying all command types
  */
 @NonNullByDefault
 public class ColorValue extends Value {
@@ -77,6 +78,24 @@ public class ColorValue extends Value {
         this.onBrightness = onBrightness;
     }
 
+    @Override
+    public Command parseValue(String value) {
+        if (OnOffType.ON.name().equals(value)) {
+            return OnOffType.ON;
+        } else if (OnOffType.OFF.name().equals(value)) {
+            return OnOffType.OFF;
+        }
+        BigDecimal decimal = parseDecimal(value);
+        if (decimal != null) {
+            try {
+                return new PercentType(decimal);
+            } catch (IllegalArgumentException e) {
+                // out of range, a string like for the type parser
+            }
+        }
+        return new StringType(value);
+    }
+
     /**
      * Updates the color state.
      */
@@ -44,6 +44,7 @@ import org.slf4j.LoggerFactory;
  * </p>
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Parse MQTT values without trying all command types
  */
 @NonNullByDefault
 public class NumberValue extends Value {
@@ -136,6 +137,12 @@ public class NumberValue extends Value {
         }
     }
 
+    @Override
+    public @Nullable Command parseValue(String value) {
+        BigDecimal decimal = parseDecimal(value);
+        return decimal == null ? null : new DecimalType(decimal);
+    }
+
     @Override
     public Type parseMessage(Command command) throws IllegalArgumentException {
         if (command instanceof StringType) {
@@ -32,6 +32,7 @@ import org.openhab.core.types.CommandOption;
  * Implements an on/off boolean value.
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Parse MQTT values without trying all command types
  */
 @NonNullByDefault
 public class OnOffValue extends Value {
@@ -95,6 +96,16 @@ public class OnOffValue extends Value {
         this.offCommand = offCommand;
     }
 
+    @Override
+    public Command parseValue(String value) {
+        if (OnOffType.ON.name().equals(value)) {
+            return OnOffType.ON;
+        } else if (OnOffType.OFF.name().equals(value)) {
+            return OnOffType.OFF;
+        }
+        return new StringType(value);
+    }
+
     @Override
     public OnOffType parseCommand(Command command) throws IllegalArgumentException {
         if (command instanceof OnOffType onOffCommand) {
@@ -43,6 +43,7 @@ import org.openhab.core.types.UnDefType;
  * On, Off strings can be customized.
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Parse MQTT values without trying all command types
  */
 @NonNullByDefault
 public class PercentageValue extends Value {
@@ -73,6 +74,12 @@ public class PercentageValue extends Value {
         this.formatOverride = formatOverride;
     }
 
+    @Override
+    public @Nullable Command parseValue(String value) {
+        BigDecimal decimal = parseDecimal(value);
+        return decimal == null ? null : new DecimalType(decimal);
+    }
+
     @Override
     public Command parseCommand(Command command) throws IllegalArgumentException {
         PercentType oldvalue = (state instanceof UnDefType) ? new PercentType() : state.as(PercentType.class);
@@ -14,6 +14,7 @@ package org.openhab.binding.mqtt.generic.values;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.net.URLConnection;
 import java.util.List;
 
@@ -29,6 +30,7 @@ import org.openhab.core.types.CommandDescriptionBuilder;
 import org.openhab.core.types.State;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
 import org.openhab.core.types.Type;
+import org.openhab.core.types.TypeParser;
 import org.openhab.core.types.UnDefType;
 
 /**
@@ -50,6 +52,7 @@ import org.openhab.core.types.UnDefType;
  * </p>
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Parse MQTT values without trying all command types
  */
 @NonNullByDefault
 public abstract class Value {
@@ -138,6 +141,42 @@ public abstract class Value {
      */
     public abstract Command parseCommand(Command command) throws IllegalArgumentException;
 
+    /**
+     * Parses an MQTT value into one of the supported command types, without trying each of them with
+     * {@link TypeParser}. The result must be the same as the one of {@link TypeParser#parseCommand(List, String)} with
+     * the supported command types.
+     *
+     * @param value The MQTT value.
+     * @return The command or null if the supported command types have to be tried.
+     */
+    public @Nullable Command parseValue(String value) {
+        return null;
+    }
+
+    /**
+     * Parses a decimal number like {@link DecimalType#valueOf(String)} does.
+     *
+     * @param value The string to parse.
+     * @return The number or null if the string is not a decimal number.
+     */
+    protected static @Nullable BigDecimal parseDecimal(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        // avoid the cost of an exception for values that are obviously not a number
+        char first = value.charAt(0);
+        char last = value.charAt(value.length() - 1);
+        if (!(Character.isDigit(first) || first == '-' || first == '+' || first == '.')
+                || !(Character.isDigit(last) || last == '.')) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * Parses a given command from MQTT into the proper type for this Value type. This will usually
      * be a State, but can be a non-State Command, in which case the channel will be commanded instead
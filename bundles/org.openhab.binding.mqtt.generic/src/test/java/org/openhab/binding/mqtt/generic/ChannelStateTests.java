@@ -221,6 +221,24 @@ public class ChannelStateTests {
         verify(channelStateUpdateListenerMock, times(3)).updateChannelState(eq(channelUIDMock), any());
     }
 
+    @Test
+    public void receiveUnchangedDecimalTest() {
+        ChannelConfig config = ChannelConfigBuilder.create("state", "command").build();
+        config.ignoreUnchanged = true;
+        NumberValue value = new NumberValue(null, null, new BigDecimal(10), null);
+        ChannelState c = spy(new ChannelState(config, channelUIDMock, value, channelStateUpdateListenerMock));
+        c.start(connectionMock, mock(ScheduledExecutorService.class), 100);
+
+        c.processMessage("state", "15".getBytes());
+        c.processMessage("state", "15".getBytes());
+        assertThat(value.getChannelState().toString(), is("15"));
+
+        c.processMessage("state", "16".getBytes());
+        assertThat(value.getChannelState().toString(), is("16"));
+
+        verify(channelStateUpdateListenerMock, times(2)).updateChannelState(eq(channelUIDMock), any());
+    }
+
     @Test
     public void receiveDecimalFractionalTest() {
         NumberValue value = new NumberValue(null, null, new BigDecimal(10.5), null);
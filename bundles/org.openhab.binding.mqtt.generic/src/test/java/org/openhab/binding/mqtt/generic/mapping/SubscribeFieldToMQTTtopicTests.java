@@ -150,4 +150,76 @@ public class SubscribeFieldToMQTTtopicTests {
         future.get(50, TimeUnit.MILLISECONDS);
         assertThat(attributes.aInt, is(10));
     }
+
+    @Test
+    public void messageReceiveThroughWildcardSubscription() throws Exception {
+        final FieldChanged changed = (field, value) -> {
+            try {
+                field.set(attributes.getFieldsOf(), value);
+            } catch (IllegalArgumentException | IllegalAccessException e) {
+                fail(e.getMessage());
+            }
+        };
+        final Field field = Attributes.class.getField("aInt");
+        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+
+        WildcardSubscription wildcardSubscription = new WildcardSubscription("homie/device123",
+                "homie/device123/$state");
+        CompletableFuture<@Nullable Void> bootstrapFuture = wildcardSubscription.start(connectionMock, scheduler, 1000);
+
+        // Simulate the retained messages received through the wildcard subscription
+        wildcardSubscription.processMessage("homie/device123/$aInt", "10".getBytes());
+        wildcardSubscription.processMessage("homie/device123/$state", "ready".getBytes());
+        bootstrapFuture.get(50, TimeUnit.MILLISECONDS);
+
+        // A retained value is passed to the field immediately
+        SubscribeFieldToMQTTtopic subscriber = new SubscribeFieldToMQTTtopic(scheduler, field, changed,
+                "homie/device123/$aInt", false);
+        subscriber.subscribeAndReceive(wildcardSubscription, 1000).get(50, TimeUnit.MILLISECONDS);
+        assertThat(attributes.aInt, is(10));
+
+        // An optional field without a retained value waits for the timeout
+        SubscribeFieldToMQTTtopic missing = new SubscribeFieldToMQTTtopic(scheduler, field, fieldChangedMock,
+                "homie/device123/$missing", false);
+        missing.subscribeAndReceive(wildcardSubscription, 100).get(500, TimeUnit.MILLISECONDS);
+        assertThat(missing.hasReceivedValue(), is(false));
+    }
+
+    @Test
+    public void messageReceiveThroughWildcardSubscriptionAfterReadyTopic() throws Exception {
+        final FieldChanged changed = (field, value) -> {
+            try {
+                field.set(attributes.getFieldsOf(), value);
+            } catch (IllegalArgumentException | IllegalAccessException e) {
+                fail(e.getMessage());
+            }
+        };
+        final Field field = Attributes.class.getField("aInt");
+        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+
+        WildcardSubscription wildcardSubscription = new WildcardSubscription("homie/device123",
+                "homie/device123/$state");
+        CompletableFuture<@Nullable Void> bootstrapFuture = wildcardSubscription.start(connectionMock, scheduler, 1000);
+
+        // The ready topic is received before the retained attribute
+        wildcardSubscription.processMessage("homie/device123/$state", "ready".getBytes());
+        bootstrapFuture.get(50, TimeUnit.MILLISECONDS);
+
+        SubscribeFieldToMQTTtopic subscriber = new SubscribeFieldToMQTTtopic(scheduler, field, changed,
+                "homie/device123/$aInt", false);
+        CompletableFuture<@Nullable Void> future = subscriber.subscribeAndReceive(wildcardSubscription, 1000);
+        assertFalse(future.isDone());
+
+        wildcardSubscription.processMessage("homie/device123/$aInt", "10".getBytes());
+        future.get(50, TimeUnit.MILLISECONDS);
+        assertThat(attributes.aInt, is(10));
+        assertThat(subscriber.hasReceivedValue(), is(true));
+
+        // Values of non-attribute topics are passed on but not kept
+        wildcardSubscription.processMessage("homie/device123/node/property", "5".getBytes());
+        SubscribeFieldToMQTTtopic property = new SubscribeFieldToMQTTtopic(scheduler, field, fieldChangedMock,
+                "homie/device123/node/property", false);
+        property.subscribeAndReceive(wildcardSubscription, 100).get(500, TimeUnit.MILLISECONDS);
+        assertThat(property.hasReceivedValue(), is(false));
+    }
 }
@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -437,6 +438,25 @@ public class ValueTests {
         assertThrows(IllegalArgumentException.class, () -> v.parseCommand(new DecimalType(9.0)));
     }
 
+    @Test
+    public void parseValueLikeTypeParser() {
+        List<Value> values = List.of(new NumberValue(null, null, null, null),
+                new PercentageValue(null, null, null, null, null, null), new OnOffValue("fancyON", "fancyOFF"),
+                new ColorValue(ColorMode.HSB, null, null, 10));
+        List<String> strings = List.of("15", "-1.5", "+2", ".5", "1e3", "1E+3", "50", "100", "101", "-1", "ON", "OFF",
+                "on", "INCREASE", "UP", "NaN", "", "1.2.3", "15 W", "10,20,30", "fancyON", "text");
+
+        for (Value value : values) {
+            for (String string : strings) {
+                Command parsed = value.parseValue(string);
+                if (parsed != null) {
+                    assertThat(value.getClass().getSimpleName() + " '" + string + "'", parsed,
+                            is(TypeParser.parseCommand(value.getSupportedCommandTypes(), string)));
+                }
+            }
+        }
+    }
+
     @Test
     public void textUpdate() {
         TextValue v = new TextValue();
@@ -14,11 +14,14 @@ package org.openhab.binding.mqtt.homeassistant.internal;
 
 import java.lang.ref.WeakReference;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -45,6 +48,7 @@ import com.hubspot.jinjava.Jinjava;
  * in a time limited discovery mode or as a background discovery.
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Skip unchanged config payloads
  */
 @NonNullByDefault
 public class DiscoverComponents implements MqttMessageSubscriber {
@@ -65,6 +69,13 @@ public class DiscoverComponents implements MqttMessageSubscriber {
     protected @Nullable ComponentDiscovered discoveredListener;
     private int discoverTime;
     private Set<String> topics = new HashSet<>();
+    // the last config payload per topic that resulted in a component. The components are kept by the listener
+    // while the discovery is stopped, so identical retained configs need not be parsed again when it is restarted.
+    private final Map<String, String> configPerTopic = new ConcurrentHashMap<>();
+    // the config topics that have not been received since the discovery was started
+    private final Set<String> pendingTopics = ConcurrentHashMap.newKeySet();
+    private long discoveryStartNanos;
+    private final AtomicInteger unchangedConfigs = new AtomicInteger();
 
     /**
      * Implement this to get notified of new components
@@ -106,6 +117,12 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         AbstractComponent<?> component = null;
 
         if (config.length() > 0) {
+            if (config.equals(configPerTopic.get(topic))) {
+                logger.trace("Skipping unchanged HomeAssistant component {}", haID);
+                unchangedConfigs.incrementAndGet();
+                configReceived(topic);
+                return;
+            }
             try {
                 component = ComponentFactory.createComponent(thingUID, haID, config, updateListener, linkageChecker,
                         tracker, scheduler, gson, jinjava, unitProvider);
@@ -115,6 +132,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
 
                 if (discoveredListener != null) {
                     discoveredListener.componentDiscovered(haID, component);
+                    configPerTopic.put(topic, config);
                 }
             } catch (UnsupportedComponentException e) {
                 logger.warn("HomeAssistant discover error: thing {} component type is unsupported: {}", haID.objectID,
@@ -124,10 +142,27 @@ public class DiscoverComponents implements MqttMessageSubscriber {
                         haID.objectID, haID.component, e.getMessage());
             }
         } else {
+            configPerTopic.remove(topic);
             if (discoveredListener != null) {
                 discoveredListener.componentRemoved(haID);
             }
         }
+        configReceived(topic);
+    }
+
+    private void configReceived(String topic) {
+        if (pendingTopics.remove(topic) && pendingTopics.isEmpty()) {
+            logger.debug("Received all {} component configs of {} in {} ms, {} unchanged", topics.size(), thingUID,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - discoveryStartNanos), unchangedConfigs.get());
+        }
+    }
+
+    /**
+     * Forgets the configs received so far, so that all components are discovered again when the discovery is
+     * restarted. Must be called when the listener drops its components.
+     */
+    public void clearConfigCache() {
+        configPerTopic.clear();
     }
 
     /**
@@ -154,6 +189,10 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         this.discoverTime = discoverTime;
         this.discoveredListener = componentsDiscoveredListener;
         this.connectionRef = new WeakReference<>(connection);
+        this.discoveryStartNanos = System.nanoTime();
+        this.unchangedConfigs.set(0);
+        pendingTopics.clear();
+        pendingTopics.addAll(this.topics);
 
         // Subscribe to the wildcard topic and start receive MQTT retained topics
         this.topics.stream().map(t -> connection.subscribe(t, this)).collect(FutureCollector.allOf())
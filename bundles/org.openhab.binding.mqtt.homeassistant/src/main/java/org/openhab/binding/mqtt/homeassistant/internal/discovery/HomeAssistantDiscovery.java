@@ -64,6 +64,7 @@ import com.google.gson.GsonBuilder;
  * Home Assistant MQTT discovery convention (https://www.home-assistant.io/docs/mqtt/discovery/).
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Skip unchanged config payloads
  */
 @Component(service = DiscoveryService.class, configurationPid = "discovery.mqttha", property = Constants.SERVICE_PID
         + "=discovery.mqttha")
@@ -76,6 +77,13 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     protected final Map<String, ThingUID> thingIDPerTopic = new HashMap<>();
     protected final Map<String, DiscoveryResult> results = new HashMap<>();
     protected final Map<String, DiscoveryResult> allResults = new HashMap<>();
+    // the last config payload per topic, identical retained configs are not parsed again on reconnect
+    protected final Map<String, String> configPerTopic = new HashMap<>();
+
+    // statistics of the config messages received since the results were last published
+    private long firstConfigNanos;
+    private int receivedConfigs;
+    private int unchangedConfigs;
 
     private @Nullable ScheduledFuture<?> future;
     private final Gson gson;
@@ -149,16 +157,33 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
         // easily recognize object capabilities.
         HaID haID = new HaID(topic);
+        String configJSON = new String(payload, StandardCharsets.UTF_8);
+
+        synchronized (results) {
+            if (receivedConfigs++ == 0) {
+                firstConfigNanos = System.nanoTime();
+            }
+            if (configJSON.equals(configPerTopic.get(topic))) {
+                ThingUID thingUID = thingIDPerTopic.get(topic);
+                DiscoveryResult result = thingUID == null ? null : allResults.get(thingUID.toString());
+                if (result != null) {
+                    // publish the known result again without parsing the config
+                    unchangedConfigs++;
+                    results.put(result.getThingUID().toString(), result);
+                    return;
+                }
+            }
+        }
 
         try {
-            AbstractChannelConfiguration config = AbstractChannelConfiguration
-                    .fromString(new String(payload, StandardCharsets.UTF_8), gson);
+            AbstractChannelConfiguration config = AbstractChannelConfiguration.fromString(configJSON, gson);
 
             final String thingID = config.getThingId(haID.objectID);
             final ThingUID thingUID = new ThingUID(MqttBindingConstants.HOMEASSISTANT_MQTT_THING, bridgeUID, thingID);
 
             synchronized (results) {
                 thingIDPerTopic.put(topic, thingUID);
+                configPerTopic.put(topic, configJSON);
 
                 Map<String, Object> properties = new HashMap<>();
                 properties = config.appendToProperties(properties);
@@ -240,6 +265,13 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         synchronized (results) {
             localResults = new ArrayList<>(results.values());
             results.clear();
+            if (receivedConfigs > 0) {
+                logger.debug("Processed {} config messages ({} unchanged) into {} discovery results in {} ms",
+                        receivedConfigs, unchangedConfigs, localResults.size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - firstConfigNanos));
+                receivedConfigs = 0;
+                unchangedConfigs = 0;
+            }
         }
         for (DiscoveryResult result : localResults) {
             thingDiscovered(result);
@@ -252,6 +284,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             return;
         }
         synchronized (results) {
+            configPerTopic.remove(topic);
             ThingUID thingUID = thingIDPerTopic.remove(topic);
             if (thingUID != null) {
                 final String thingID = thingUID.getId();
@@ -80,6 +80,7 @@ import com.hubspot.jinjava.Jinjava;
  * If a Components configuration changes, the known ChannelGroupType and ChannelTypes are replaced with the new ones.
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Skip unchanged config payloads
  */
 @NonNullByDefault
 public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
@@ -148,6 +149,8 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
             return;
         }
         discoveryHomeAssistantIDs.addAll(HaID.fromConfig(config));
+        // the components are restored from the channels below, every config needs to be compared with them again
+        discoverComponents.clearConfigCache();
 
         ThingTypeUID typeID = getThing().getThingTypeUID();
         for (Channel channel : thing.getChannels()) {
@@ -136,6 +136,33 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
         verify(channelTypeProvider, times(3)).putChannelGroupType(any());
     }
 
+    @Test
+    public void testUnchangedConfigIsSkipped() {
+        thingHandler.initialize();
+
+        verify(thingHandler, timeout(SUBSCRIBE_TIMEOUT)).start(any());
+        MQTT_TOPICS.forEach(t -> {
+            verify(bridgeConnection, timeout(SUBSCRIBE_TIMEOUT)).subscribe(eq(t), any());
+        });
+
+        var configTopic = "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config";
+        thingHandler.discoverComponents.processMessage(configTopic,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        thingHandler.delayedProcessing.forceProcessNow();
+        assertThat(nonSpyThingHandler.getThing().getChannels().size(), is(7));
+
+        // The same retained config is received again, e.g. after a reconnect
+        thingHandler.discoverComponents.processMessage(configTopic,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        verify(thingHandler, times(1)).componentDiscovered(eq(new HaID(configTopic)), any(Climate.class));
+
+        // A removed component is discovered again
+        thingHandler.discoverComponents.processMessage(configTopic, new byte[0]);
+        thingHandler.discoverComponents.processMessage(configTopic,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        verify(thingHandler, times(2)).componentDiscovered(eq(new HaID(configTopic)), any(Climate.class));
+    }
+
     /**
      * Test where the same component is published twice to MQTT. The binding should handle this.
      *
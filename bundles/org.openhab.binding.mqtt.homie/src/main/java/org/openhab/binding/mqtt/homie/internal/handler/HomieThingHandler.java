@@ -58,6 +58,7 @@ import org.slf4j.LoggerFactory;
  * and defines Devices, Nodes and Properties, corresponding to Things, Channel Groups and Channels respectively.
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Batched bootstrap option
  */
 @NonNullByDefault
 public class HomieThingHandler extends AbstractMQTTThingHandler implements DeviceCallback, Consumer<List<Object>> {
@@ -123,6 +124,7 @@ public class HomieThingHandler extends AbstractMQTTThingHandler implements Devic
             return;
         }
         device.initialize(config.basetopic, config.deviceid, thing.getChannels());
+        device.setBatchedBootstrap(config.batchedbootstrap);
 
         updateThingType();
         if (getThing().getThingTypeUID().equals(MqttBindingConstants.HOMIE300_MQTT_THING)) {
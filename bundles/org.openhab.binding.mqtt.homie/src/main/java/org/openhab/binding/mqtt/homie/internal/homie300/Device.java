@@ -17,12 +17,14 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.generic.mapping.AbstractMqttAttributeClass;
+import org.openhab.binding.mqtt.generic.mapping.WildcardSubscription;
 import org.openhab.binding.mqtt.generic.tools.ChildMap;
 import org.openhab.binding.mqtt.homie.generic.internal.MqttBindingConstants;
 import org.openhab.binding.mqtt.homie.internal.handler.HomieThingHandler;
@@ -52,6 +54,7 @@ import org.slf4j.LoggerFactory;
  * </pre>
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Batched attribute bootstrap through a wildcard subscription
  */
 @NonNullByDefault
 public class Device implements AbstractMqttAttributeClass.AttributeChanged {
@@ -69,6 +72,7 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
     private String topic = "";
     public String deviceID = "";
     private boolean initialized = false;
+    private boolean batchedBootstrap = false;
 
     /**
      * Creates a Homie Device structure. It consists of device attributes, device statistics and nodes.
@@ -115,15 +119,44 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
             throw new IllegalStateException("You must call initialize()!");
         }
 
-        return attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout)
+        final long start = System.nanoTime();
+        final CompletableFuture<@Nullable Void> bootstrapFuture;
+        if (batchedBootstrap) {
+            // Receive all retained attributes of the device, its nodes and properties with a single subscription.
+            // The state is usually published last by the device, so most attributes are known as soon as it arrives.
+            // The device attributes are waited for in parallel, so a missing state does not add another timeout.
+            WildcardSubscription wildcardSubscription = new WildcardSubscription(topic, topic + "/$state");
+            attributes.setWildcardSubscription(wildcardSubscription);
+            bootstrapFuture = wildcardSubscription.start(connection, scheduler, timeout);
+        } else {
+            attributes.setWildcardSubscription(null);
+            bootstrapFuture = CompletableFuture.completedFuture(null);
+        }
+
+        return CompletableFuture
+                .allOf(bootstrapFuture, attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout))
                 // On success, create all nodes and tell the handler about the ready state
                 .thenCompose(b -> attributesReceived(connection, scheduler, timeout))
                 // No matter if values have been received or not -> the subscriptions have been performed
                 .whenComplete((r, e) -> {
                     initialized = true;
+                    logger.debug("Homie device {} ready after {} ms{}", deviceID,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                            batchedBootstrap ? " (batched bootstrap)" : "");
                 });
     }
 
+    /**
+     * Receive the attributes of the device, its nodes and properties through a single wildcard subscription to the
+     * device topic instead of subscribing to each attribute topic. Takes effect with the next
+     * {@link #subscribe(MqttBrokerConnection, ScheduledExecutorService, int)}.
+     *
+     * @param batchedBootstrap True to use a single wildcard subscription
+     */
+    public void setBatchedBootstrap(boolean batchedBootstrap) {
+        this.batchedBootstrap = batchedBootstrap;
+    }
+
     public CompletableFuture<@Nullable Void> attributesReceived(MqttBrokerConnection connection,
             ScheduledExecutorService scheduler, int timeout) {
         callback.readyStateChanged(attributes.state);
@@ -176,8 +209,13 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
      * Unsubscribe from everything.
      */
     public CompletableFuture<@Nullable Void> stop() {
-        return attributes.unsubscribe().thenCompose(
+        final WildcardSubscription wildcardSubscription = attributes.getWildcardSubscription();
+        CompletableFuture<@Nullable Void> future = attributes.unsubscribe().thenCompose(
                 b -> CompletableFuture.allOf(nodes.stream().map(Node::stop).toArray(CompletableFuture[]::new)));
+        if (wildcardSubscription == null) {
+            return future;
+        }
+        return future.thenCompose(b -> CompletableFuture.allOf(wildcardSubscription.stop()));
     }
 
     /**
@@ -310,7 +348,10 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
     CompletableFuture<@Nullable Void> applyNodes(MqttBrokerConnection connection, ScheduledExecutorService scheduler,
             int timeout) {
         return nodes.apply(Objects.requireNonNull(attributes.nodes),
-                node -> node.subscribe(connection, scheduler, timeout), this::createNode, this::notifyNodeRemoved)
+                node -> {
+                    node.attributes.setWildcardSubscription(attributes.getWildcardSubscription());
+                    return node.subscribe(connection, scheduler, timeout);
+                }, this::createNode, this::notifyNodeRemoved)
                 .exceptionally(e -> {
                     logger.warn("Could not subscribe", e);
                     return null;
@@ -21,6 +21,7 @@ import org.openhab.binding.mqtt.homie.internal.handler.HomieThingHandler;
  * This class contains the necessary configuration for such a Thing handler.
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Batched bootstrap option
  */
 @NonNullByDefault
 public class HandlerConfiguration {
@@ -36,4 +37,8 @@ public class HandlerConfiguration {
      * Indicates if retained topics should be removed when the Thing is deleted.
      */
     public boolean removetopics = false;
+    /**
+     * Indicates if all attributes should be received through a single wildcard subscription to the device topic.
+     */
+    public boolean batchedbootstrap = false;
 }
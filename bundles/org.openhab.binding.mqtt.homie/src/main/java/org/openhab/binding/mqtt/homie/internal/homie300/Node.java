@@ -46,6 +46,7 @@ import org.slf4j.LoggerFactory;
  * It corresponds to a ChannelGroup.
  *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Pass the wildcard subscription on to the properties
  */
 @NonNullByDefault
 public class Node implements AbstractMqttAttributeClass.AttributeChanged {
@@ -179,7 +180,10 @@ public class Node implements AbstractMqttAttributeClass.AttributeChanged {
     protected CompletableFuture<@Nullable Void> applyProperties(MqttBrokerConnection connection,
             ScheduledExecutorService scheduler, int timeout) {
         return properties.apply(Objects.requireNonNull(attributes.properties),
-                prop -> prop.subscribe(connection, scheduler, timeout), this::createProperty,
+                prop -> {
+                    prop.attributes.setWildcardSubscription(attributes.getWildcardSubscription());
+                    return prop.subscribe(connection, scheduler, timeout);
+                }, this::createProperty,
                 this::notifyPropertyRemoved).exceptionally(e -> {
                     logger.warn("Could not subscribe", e);
                     return null;
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.discovery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Maps MQTT topic filters, which may contain the wildcards {@code +} and {@code #}, to values and finds the values of
+ * all filters matching a topic. Finding the matches takes time proportional to the depth of the topic, not to the
+ * number of filters.
+ *
+ * This class is not thread-safe. If it is shared between threads, it should not be modified after it has been
+ * published.
+ *
+ * @author Julio Gesser - Initial contribution
+ *
+ * @param <T> the type of the values
+ */
+@NonNullByDefault
+public class MqttTopicTrie<T> {
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+
+    private static class Node<T> {
+        private final Map<String, Node<T>> children = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+
+        boolean isEmpty() {
+            return children.isEmpty() && values.isEmpty();
+        }
+    }
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Adds a value for a topic filter.
+     *
+     * @param filter the topic filter
+     * @param value the value
+     */
+    public void add(String filter, T value) {
+        Node<T> node = root;
+        for (String level : filter.split("/", -1)) {
+            node = node.children.computeIfAbsent(level, l -> new Node<>());
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * Removes a value of a topic filter.
+     *
+     * @param filter the topic filter
+     * @param value the value
+     * @return true if the value was found and removed
+     */
+    public boolean remove(String filter, T value) {
+        return remove(root, filter.split("/", -1), 0, value);
+    }
+
+    private boolean remove(Node<T> node, String[] levels, int index, T value) {
+        if (index == levels.length) {
+            return node.values.remove(value);
+        }
+        Node<T> child = node.children.get(levels[index]);
+        if (child == null || !remove(child, levels, index + 1, value)) {
+            return false;
+        }
+        if (child.isEmpty()) {
+            node.children.remove(levels[index]);
+        }
+        return true;
+    }
+
+    /**
+     * @return true if there are no values
+     */
+    public boolean isEmpty() {
+        return root.isEmpty();
+    }
+
+    /**
+     * Passes the values of all topic filters that match a topic to an action.
+     *
+     * @param topic the topic, without wildcards
+     * @param action the action, returning true if it accepted the value
+     * @return the number of values the action accepted
+     */
+    public int forEachMatch(String topic, Predicate<? super T> action) {
+        return match(root, topic, 0, action);
+    }
+
+    /**
+     * @param start the index of the next level in the topic, or -1 if all levels have been matched
+     */
+    private int match(Node<T> node, String topic, int start, Predicate<? super T> action) {
+        // a multi-level wildcard matches the remaining levels, including none
+        int accepted = accept(node.children.get(MULTI_LEVEL_WILDCARD), action);
+        if (start < 0) {
+            return accepted + accept(node, action);
+        }
+
+        int end = topic.indexOf('/', start);
+        int next = end < 0 ? -1 : end + 1;
+        Node<T> child = node.children.get(end < 0 ? topic.substring(start) : topic.substring(start, end));
+        if (child != null) {
+            accepted += match(child, topic, next, action);
+        }
+        child = node.children.get(SINGLE_LEVEL_WILDCARD);
+        if (child != null) {
+            accepted += match(child, topic, next, action);
+        }
+        return accepted;
+    }
+
+    private int accept(@Nullable Node<T> node, Predicate<? super T> action) {
+        int accepted = 0;
+        if (node != null) {
+            for (T value : node.values) {
+                if (action.test(value)) {
+                    accepted++;
+                }
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Tests if every topic that matches a topic filter also matches another one.
+     *
+     * @param filter the covering topic filter
+     * @param other the covered topic filter
+     * @return true if {@code filter} matches all topics that {@code other} matches
+     */
+    public static boolean covers(String filter, String other) {
+        return covers(filter.split("/", -1), 0, other.split("/", -1), 0);
+    }
+
+    private static boolean covers(String[] filter, int i, String[] other, int j) {
+        if (i == filter.length) {
+            return j == other.length;
+        } else if (MULTI_LEVEL_WILDCARD.equals(filter[i])) {
+            return true;
+        } else if (j == other.length || MULTI_LEVEL_WILDCARD.equals(other[j])) {
+            return false;
+        } else if (SINGLE_LEVEL_WILDCARD.equals(filter[i]) || filter[i].equals(other[j])) {
+            return covers(filter, i + 1, other, j + 1);
+        }
+        return false;
+    }
+}
@@ -12,21 +12,27 @@
  */
 package org.openhab.binding.mqtt.handler;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryParticipant;
-import org.openhab.binding.mqtt.discovery.TopicSubscribe;
+import org.openhab.binding.mqtt.discovery.MqttTopicTrie;
 import org.openhab.binding.mqtt.internal.action.MQTTActions;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.io.transport.mqtt.MqttConnectionObserver;
 import org.openhab.core.io.transport.mqtt.MqttConnectionState;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
@@ -42,15 +48,44 @@ import org.slf4j.LoggerFactory;
  * This base implementation handles connection changes of the {@link MqttBrokerConnection}
  * and puts the Thing on or offline. It also provides a basic dispose() implementation.
  *
+ * <p>
+ * Discovery topics are subscribed once per broker connection. A topic that is covered by another one, e.g.
+ * {@code homeassistant/+/+/config} by {@code homeassistant/#}, is not subscribed separately. Received messages are
+ * routed to the discovery participants with an {@link MqttTopicTrie}. Whenever a participant registers, the topic that
+ * covers its topic is subscribed again, so that the participant receives the retained messages of the broker.
+ *
  * @author David Graeff - Initial contribution
+ * @author Julio Gesser - Route discovery messages with a topic trie
  */
 @NonNullByDefault
 public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements MqttConnectionObserver {
     public static final int TIMEOUT_DEFAULT = 1200; /* timeout in milliseconds */
     private final Logger logger = LoggerFactory.getLogger(AbstractBrokerHandler.class);
 
+    /**
+     * Statistics of the discovery messages received from the broker.
+     *
+     * @param routed number of messages that were passed to at least one discovery participant
+     * @param dropped number of messages that were received after their topic was unsubscribed
+     */
+    public record DiscoveryStatistics(long routed, long dropped) {
+    }
+
+    /**
+     * A discovery participant and the subscribed topic it receives its messages from.
+     */
+    private record DiscoveryRoute(String subscribedTopic, MQTTTopicDiscoveryParticipant participant) {
+    }
+
     final Map<ChannelUID, PublishTriggerChannel> channelStateByChannelUID = new HashMap<>();
-    private final Map<String, @Nullable Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe>> discoveryTopics = new HashMap<>();
+    private final Object discoveryLock = new Object();
+    // the discovery participants per topic, in the order they registered
+    private final Map<String, Set<MQTTTopicDiscoveryParticipant>> discoveryTopics = new HashMap<>();
+    private final Map<String, DiscoverySubscription> discoverySubscriptions = new HashMap<>();
+    // replaced whenever the discovery topics change, so that messages can be routed without locking
+    private volatile MqttTopicTrie<DiscoveryRoute> discoveryRoutes = new MqttTopicTrie<>();
+    private final LongAdder routedMessages = new LongAdder();
+    private final LongAdder droppedMessages = new LongAdder();
 
     protected @Nullable MqttBrokerConnection connection;
     protected CompletableFuture<MqttBrokerConnection> connectionFuture = new CompletableFuture<>();
@@ -116,28 +151,10 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         });
         connectionFuture.complete(connection);
 
-        discoveryTopics.forEach((topic, listenerMap) -> {
-            listenerMap.replaceAll((listener, oldTopicSubscribe) -> {
-                if (oldTopicSubscribe.isStarted()) {
-                    oldTopicSubscribe.stop();
-                }
-
-                TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
-                if (discoveryEnabled()) {
-                    topicSubscribe.start().handle((result, ex) -> {
-                        if (ex != null) {
-                            logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
-                                    thing.getUID());
-                        } else {
-                            logger.trace("Subscribed {} to discovery topic {} on broker {}", listener, topic,
-                                    thing.getUID());
-                        }
-                        return null;
-                    });
-                }
-                return topicSubscribe;
-            });
-        });
+        synchronized (discoveryLock) {
+            stopDiscoverySubscriptions();
+            updateDiscoverySubscriptions();
+        }
     }
 
     @Override
@@ -169,11 +186,9 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         channelStateByChannelUID.clear();
 
         // keep topics, but stop subscriptions
-        discoveryTopics.forEach((topic, listenerMap) -> {
-            listenerMap.forEach((listener, topicSubscribe) -> {
-                topicSubscribe.stop();
-            });
-        });
+        synchronized (discoveryLock) {
+            stopDiscoverySubscriptions();
+        }
 
         if (connection != null) {
             connection.removeConnectionObserver(this);
@@ -193,30 +208,23 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
      * @param topic the topic (wildcards supported)
      */
     public final void registerDiscoveryListener(MQTTTopicDiscoveryParticipant listener, String topic) {
-        Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe> topicListeners = discoveryTopics
-                .computeIfAbsent(topic, t -> new HashMap<>());
-        topicListeners.compute(listener, (k, v) -> {
-            if (v != null) {
+        synchronized (discoveryLock) {
+            if (!discoveryTopics.computeIfAbsent(topic, t -> new LinkedHashSet<>()).add(listener)) {
                 logger.warn("Duplicate subscription for {} to discovery topic {} on broker {}. Check discovery logic!",
                         listener, topic, thing.getUID());
-                v.stop();
             }
-
-            TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
-            if (discoveryEnabled()) {
-                topicSubscribe.start().handle((result, ex) -> {
-                    if (ex != null) {
-                        logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
-                                thing.getUID());
-                    } else {
-                        logger.trace("Subscribed {} to discovery topic {} on broker {}", listener, topic,
-                                thing.getUID());
-                    }
-                    return null;
-                });
+            @Nullable
+            DiscoverySubscription covering = discoverySubscriptions.values().stream()
+                    .filter(subscription -> MqttTopicTrie.covers(subscription.topic, topic)).findFirst().orElse(null);
+            updateDiscoverySubscriptions();
+            if (covering != null && discoverySubscriptions.get(covering.topic) == covering) {
+                // the topic is already subscribed, subscribe it again so that the broker replays the retained messages
+                DiscoverySubscription subscription = new DiscoverySubscription(covering.connection, covering.topic);
+                discoverySubscriptions.put(covering.topic, subscription);
+                subscription.start();
+                covering.stop();
             }
-            return topicSubscribe;
-        });
+        }
     }
 
     /**
@@ -226,27 +234,139 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
      * @param topic the topic (as specified during registration)
      */
     public final void unregisterDiscoveryListener(MQTTTopicDiscoveryParticipant listener, String topic) {
-        discoveryTopics.compute(topic, (k, v) -> {
-            if (v == null) {
+        synchronized (discoveryLock) {
+            Set<MQTTTopicDiscoveryParticipant> listeners = discoveryTopics.get(topic);
+            if (listeners == null) {
                 logger.warn(
                         "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered at all. Check discovery logic!",
                         listener, topic, thing.getUID());
-                return null;
+                return;
+            }
+            if (!listeners.remove(listener)) {
+                logger.warn(
+                        "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered for listener. Check discovery logic!",
+                        listener, topic, thing.getUID());
+                return;
+            }
+            if (listeners.isEmpty()) {
+                discoveryTopics.remove(topic);
+            }
+            logger.trace("Unsubscribed {} from discovery topic {} on broker {}", listener, topic, thing.getUID());
+            updateDiscoverySubscriptions();
+        }
+    }
+
+    /**
+     * Returns the statistics of the discovery messages received from the broker.
+     */
+    public DiscoveryStatistics getDiscoveryStatistics() {
+        return new DiscoveryStatistics(routedMessages.sum(), droppedMessages.sum());
+    }
+
+    /**
+     * Subscribes the discovery topics that are not covered by another one and routes each discovery topic to the
+     * subscribed topic that covers it. Must be called with the discovery lock held.
+     */
+    private void updateDiscoverySubscriptions() {
+        // sorted, so that the same topic is chosen among topics that cover each other
+        Set<String> topics = new TreeSet<>(discoveryTopics.keySet());
+        List<String> subscribedTopics = new ArrayList<>();
+        for (String topic : topics) {
+            if (subscribedTopics.stream().noneMatch(t -> MqttTopicTrie.covers(t, topic))) {
+                subscribedTopics.removeIf(t -> MqttTopicTrie.covers(topic, t));
+                subscribedTopics.add(topic);
+            }
+        }
+
+        MqttTopicTrie<DiscoveryRoute> routes = new MqttTopicTrie<>();
+        discoveryTopics.forEach((topic, listeners) -> {
+            String subscribedTopic = subscribedTopics.stream().filter(t -> MqttTopicTrie.covers(t, topic)).findFirst()
+                    .orElse(topic);
+            listeners.forEach(listener -> routes.add(topic, new DiscoveryRoute(subscribedTopic, listener)));
+        });
+        discoveryRoutes = routes;
+
+        discoverySubscriptions.entrySet().removeIf(entry -> {
+            if (subscribedTopics.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().stop();
+            return true;
+        });
+
+        MqttBrokerConnection connection = this.connection;
+        if (connection == null || !discoveryEnabled()) {
+            return;
+        }
+        for (String topic : subscribedTopics) {
+            if (!discoverySubscriptions.containsKey(topic)) {
+                DiscoverySubscription subscription = new DiscoverySubscription(connection, topic);
+                discoverySubscriptions.put(topic, subscription);
+                subscription.start();
             }
-            v.compute(listener, (l, w) -> {
-                if (w == null) {
-                    logger.warn(
-                            "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered for listener. Check discovery logic!",
-                            listener, topic, thing.getUID());
+        }
+    }
+
+    /**
+     * Stops all discovery subscriptions, but keeps the discovery topics. Must be called with the discovery lock held.
+     */
+    private void stopDiscoverySubscriptions() {
+        discoverySubscriptions.values().forEach(DiscoverySubscription::stop);
+        discoverySubscriptions.clear();
+    }
+
+    /**
+     * The subscription of a discovery topic on the broker connection.
+     */
+    private class DiscoverySubscription implements MqttMessageSubscriber {
+        private final MqttBrokerConnection connection;
+        private final String topic;
+        private volatile boolean active = true;
+
+        DiscoverySubscription(MqttBrokerConnection connection, String topic) {
+            this.connection = connection;
+            this.topic = topic;
+        }
+
+        void start() {
+            connection.subscribe(topic, this).handle((result, ex) -> {
+                if (ex != null) {
+                    logger.warn("Failed to subscribe to discovery topic {} on broker {}", topic, thing.getUID());
                 } else {
-                    w.stop();
-                    logger.trace("Unsubscribed {} from discovery topic {} on broker {}", listener, topic,
-                            thing.getUID());
+                    logger.trace("Subscribed to discovery topic {} on broker {}", topic, thing.getUID());
                 }
                 return null;
             });
-            return v.isEmpty() ? null : v;
-        });
+        }
+
+        void stop() {
+            active = false;
+            connection.unsubscribe(topic, this);
+        }
+
+        @Override
+        public void processMessage(String receivedTopic, byte[] payload) {
+            if (!active) {
+                droppedMessages.increment();
+                return;
+            }
+            int routed = discoveryRoutes.forEachMatch(receivedTopic, route -> {
+                if (!topic.equals(route.subscribedTopic())) {
+                    return false;
+                }
+                if (payload.length > 0) {
+                    route.participant().receivedMessage(thing.getUID(), connection, receivedTopic, payload);
+                } else {
+                    route.participant().topicVanished(thing.getUID(), connection, receivedTopic);
+                }
+                return true;
+            });
+            if (routed > 0) {
+                routedMessages.increment();
+            } else {
+                droppedMessages.increment();
+            }
+        }
     }
 
     /**
@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.mqtt.internal;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
@@ -43,8 +44,8 @@ import org.osgi.service.component.annotations.Component;
  * @author David Graeff - Initial contribution
  */
 @NonNullByDefault
-@Component(service = { ThingHandlerFactory.class,
-        MQTTTopicDiscoveryService.class }, configurationPid = "MqttBrokerHandlerFactory")
+@Component(service = { ThingHandlerFactory.class, MQTTTopicDiscoveryService.class,
+        MqttBrokerHandlerFactory.class }, configurationPid = "MqttBrokerHandlerFactory")
 public class MqttBrokerHandlerFactory extends BaseThingHandlerFactory implements MQTTTopicDiscoveryService {
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Stream
@@ -138,4 +139,13 @@ public class MqttBrokerHandlerFactory extends BaseThingHandlerFactory implements
             });
         });
     }
+
+    /**
+     * Returns the broker handlers that have been created by this factory.
+     */
+    public Collection<AbstractBrokerHandler> getBrokerHandlers() {
+        synchronized (handlers) {
+            return Set.copyOf(handlers);
+        }
+    }
 }
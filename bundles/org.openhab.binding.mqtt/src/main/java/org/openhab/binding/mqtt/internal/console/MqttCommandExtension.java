@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.MqttBindingConstants;
+import org.openhab.binding.mqtt.handler.AbstractBrokerHandler;
+import org.openhab.binding.mqtt.handler.AbstractBrokerHandler.DiscoveryStatistics;
+import org.openhab.binding.mqtt.internal.MqttBrokerHandlerFactory;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link MqttCommandExtension} is responsible for handling console commands
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class MqttCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String CMD_DISCOVERY_STATISTICS = "discovery-statistics";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_DISCOVERY_STATISTICS),
+            false);
+
+    private final MqttBrokerHandlerFactory brokerHandlerFactory;
+
+    @Activate
+    public MqttCommandExtension(final @Reference MqttBrokerHandlerFactory brokerHandlerFactory) {
+        super(MqttBindingConstants.BINDING_ID, "Interact with MQTT brokers.");
+        this.brokerHandlerFactory = brokerHandlerFactory;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && CMD_DISCOVERY_STATISTICS.equalsIgnoreCase(args[0])) {
+            for (AbstractBrokerHandler brokerHandler : brokerHandlerFactory.getBrokerHandlers()) {
+                DiscoveryStatistics statistics = brokerHandler.getDiscoveryStatistics();
+                console.println("MQTT broker \"" + brokerHandler.getThing().getLabel() + "\": discovery messages routed: "
+                        + statistics.routed() + ", dropped: " + statistics.dropped());
+            }
+            return;
+        }
+        printUsage(console);
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(CMD_DISCOVERY_STATISTICS,
+                "show the number of discovery messages routed to the discovery services of each broker"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
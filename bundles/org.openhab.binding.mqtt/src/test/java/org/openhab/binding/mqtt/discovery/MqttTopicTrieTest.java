@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.discovery;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link MqttTopicTrie}.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class MqttTopicTrieTest {
+
+    private static List<String> matches(MqttTopicTrie<String> trie, String topic) {
+        List<String> matches = new ArrayList<>();
+        trie.forEachMatch(topic, matches::add);
+        return matches;
+    }
+
+    @Test
+    public void matchWildcards() {
+        MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        for (String filter : List.of("homeassistant/#", "homeassistant/+/+/config", "+/+/$homie", "a", "a/#")) {
+            trie.add(filter, filter);
+        }
+
+        assertThat(matches(trie, "homeassistant/sensor/x/config"),
+                containsInAnyOrder("homeassistant/#", "homeassistant/+/+/config"));
+        assertThat(matches(trie, "homie/device/$homie"), containsInAnyOrder("+/+/$homie"));
+        assertThat(matches(trie, "a"), containsInAnyOrder("a", "a/#"));
+        assertThat(matches(trie, "a/b/c"), containsInAnyOrder("a/#"));
+        assertThat(matches(trie, "b"), is(empty()));
+    }
+
+    @Test
+    public void countAcceptedValues() {
+        MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        trie.add("a/+", "first");
+        trie.add("a/+", "second");
+
+        assertThat(trie.forEachMatch("a/b", "first"::equals), is(1));
+        assertThat(trie.forEachMatch("a/b", value -> true), is(2));
+    }
+
+    @Test
+    public void removeValues() {
+        MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        trie.add("a/+/c", "value");
+
+        assertThat(trie.remove("a/+/c", "other"), is(false));
+        assertThat(trie.remove("a/+/c", "value"), is(true));
+        assertThat(trie.isEmpty(), is(true));
+        assertThat(matches(trie, "a/b/c"), is(empty()));
+    }
+
+    @Test
+    public void covers() {
+        assertThat(MqttTopicTrie.covers("homeassistant/#", "homeassistant/+/+/config"), is(true));
+        assertThat(MqttTopicTrie.covers("a/#", "a"), is(true));
+        assertThat(MqttTopicTrie.covers("a/+", "a/b"), is(true));
+        assertThat(MqttTopicTrie.covers("a/+", "a/#"), is(false));
+        assertThat(MqttTopicTrie.covers("a/b", "a/+"), is(false));
+        assertThat(MqttTopicTrie.covers("a", "a/b"), is(false));
+    }
+}
@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 
@@ -32,10 +33,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryParticipant;
+import org.openhab.binding.mqtt.handler.AbstractBrokerHandler.DiscoveryStatistics;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.io.transport.mqtt.MqttConnectionState;
 import org.openhab.core.io.transport.mqtt.MqttException;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
 import org.openhab.core.test.java.JavaTest;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ThingStatus;
@@ -53,6 +57,8 @@ import org.osgi.service.cm.ConfigurationException;
 @NonNullByDefault
 public class BrokerHandlerTest extends JavaTest {
 
+    private static final byte[] PAYLOAD = "{}".getBytes(StandardCharsets.UTF_8);
+
     private @Mock @NonNullByDefault({}) ThingHandlerCallback callbackMock;
     private @Mock @NonNullByDefault({}) Bridge thingMock;
 
@@ -106,6 +112,81 @@ public class BrokerHandlerTest extends JavaTest {
         assertThat(statusInfoCaptor.getValue().getStatus(), is(ThingStatus.ONLINE));
     }
 
+    @Test
+    public void discoveryMessagesAreRoutedToTheParticipantsOfTheirTopic() {
+        handler.initialize();
+        MQTTTopicDiscoveryParticipant all = mock(MQTTTopicDiscoveryParticipant.class);
+        MQTTTopicDiscoveryParticipant configs = mock(MQTTTopicDiscoveryParticipant.class);
+        handler.registerDiscoveryListener(all, "homeassistant/#");
+        handler.registerDiscoveryListener(configs, "homeassistant/+/+/config");
+
+        // the covered topic is not subscribed separately
+        verify(connection, never()).subscribe(eq("homeassistant/+/+/config"), any());
+        MqttMessageSubscriber subscriber = lastDiscoverySubscriber("homeassistant/#");
+        subscriber.processMessage("homeassistant/sensor/a/config", PAYLOAD);
+        subscriber.processMessage("homeassistant/sensor/a/state", PAYLOAD);
+        subscriber.processMessage("homeassistant/sensor/a/config", new byte[0]);
+
+        verify(all).receivedMessage(any(), any(), eq("homeassistant/sensor/a/config"), eq(PAYLOAD));
+        verify(all).receivedMessage(any(), any(), eq("homeassistant/sensor/a/state"), eq(PAYLOAD));
+        verify(all).topicVanished(any(), any(), eq("homeassistant/sensor/a/config"));
+        verify(configs).receivedMessage(any(), any(), eq("homeassistant/sensor/a/config"), eq(PAYLOAD));
+        verify(configs, never()).receivedMessage(any(), any(), eq("homeassistant/sensor/a/state"), any());
+        verify(configs).topicVanished(any(), any(), eq("homeassistant/sensor/a/config"));
+        assertThat(handler.getDiscoveryStatistics(), is(new DiscoveryStatistics(3, 0)));
+    }
+
+    @Test
+    public void registeringSubscribesAgainToReplayRetainedMessages() {
+        handler.initialize();
+        MQTTTopicDiscoveryParticipant first = mock(MQTTTopicDiscoveryParticipant.class);
+        MQTTTopicDiscoveryParticipant second = mock(MQTTTopicDiscoveryParticipant.class);
+        handler.registerDiscoveryListener(first, "homie/#");
+        MqttMessageSubscriber firstSubscriber = lastDiscoverySubscriber("homie/#");
+
+        handler.registerDiscoveryListener(second, "homie/#");
+        verify(connection, times(2)).subscribe(eq("homie/#"), any());
+        verify(connection).unsubscribe("homie/#", firstSubscriber);
+
+        // a duplicate registration replays the retained messages as well
+        handler.registerDiscoveryListener(second, "homie/#");
+        verify(connection, times(3)).subscribe(eq("homie/#"), any());
+
+        // messages that are still delivered to a replaced subscription are not routed twice
+        firstSubscriber.processMessage("homie/device/$homie", PAYLOAD);
+        lastDiscoverySubscriber("homie/#").processMessage("homie/device/$homie", PAYLOAD);
+        verify(first).receivedMessage(any(), any(), eq("homie/device/$homie"), eq(PAYLOAD));
+        verify(second).receivedMessage(any(), any(), eq("homie/device/$homie"), eq(PAYLOAD));
+        assertThat(handler.getDiscoveryStatistics(), is(new DiscoveryStatistics(1, 1)));
+    }
+
+    @Test
+    public void unregisteredParticipantIsNotNotified() {
+        handler.initialize();
+        MQTTTopicDiscoveryParticipant unregistered = mock(MQTTTopicDiscoveryParticipant.class);
+        MQTTTopicDiscoveryParticipant registered = mock(MQTTTopicDiscoveryParticipant.class);
+        handler.registerDiscoveryListener(unregistered, "homie/#");
+        handler.registerDiscoveryListener(registered, "homie/#");
+        handler.unregisterDiscoveryListener(unregistered, "homie/#");
+
+        MqttMessageSubscriber subscriber = lastDiscoverySubscriber("homie/#");
+        subscriber.processMessage("homie/device/$homie", PAYLOAD);
+        verify(registered).receivedMessage(any(), any(), eq("homie/device/$homie"), eq(PAYLOAD));
+        verifyNoInteractions(unregistered);
+
+        handler.unregisterDiscoveryListener(registered, "homie/#");
+        verify(connection).unsubscribe("homie/#", subscriber);
+        subscriber.processMessage("homie/device/$homie", PAYLOAD);
+        verifyNoMoreInteractions(registered);
+        assertThat(handler.getDiscoveryStatistics(), is(new DiscoveryStatistics(1, 1)));
+    }
+
+    private MqttMessageSubscriber lastDiscoverySubscriber(String topic) {
+        ArgumentCaptor<MqttMessageSubscriber> captor = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connection, atLeastOnce()).subscribe(eq(topic), captor.capture());
+        return captor.getValue();
+    }
+
     /**
      * Utility method for tests that need the handler to be initialized to go on.
      *
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+/**
+ * Buffers items and writes them with BatchWriteItem requests of at most {@value #MAX_BATCH_SIZE} items.
+ *
+ * The buffer is flushed periodically and whenever it holds a full batch. Items with the same key (table, name and
+ * time) within one flush are written once with the last state, as DynamoDB rejects batches with duplicate keys. Items
+ * that DynamoDB reports as unprocessed, usually due to throttling, are retried with exponential backoff and full
+ * jitter. When the buffer is full, new items are dropped until the buffer has been flushed.
+ *
+ * When the table does not exist or DynamoDB rejects a batch as invalid, the items are written one by one with
+ * {@link TableCreatingPutItem}, creating the table if needed.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriter {
+
+    /**
+     * Maximum number of items in a single BatchWriteItem request, as defined by DynamoDB
+     */
+    static final int MAX_BATCH_SIZE = 25;
+    private static final int MAX_RETRIES = 8;
+    private static final long BASE_BACKOFF_MILLIS = 50;
+    private static final long MAX_BACKOFF_MILLIS = 10_000;
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+    private static final String VALIDATION_EXCEPTION = "ValidationException";
+
+    /**
+     * Item waiting to be written to its table
+     */
+    record PendingPut<T extends DynamoDBItem<?>>(DynamoDbAsyncTable<T> table, T item) {
+        /**
+         * @return the primary key of the item in its table, in the resolution in which DynamoDB stores the time
+         */
+        Key key() {
+            return new Key(table.tableName(), item.getName(), item.getTime().toInstant().toEpochMilli());
+        }
+    }
+
+    private record Key(String tableName, String name, long epochMillis) {
+    }
+
+    /**
+     * Statistics of the buffered writes.
+     *
+     * @param buffered the number of items waiting to be written
+     * @param flushes the number of buffer flushes
+     * @param requests the number of BatchWriteItem requests, including retries
+     * @param written the number of written items
+     * @param throttled the number of items that were retried due to throttling
+     * @param dropped the number of items dropped because the buffer was full
+     * @param superseded the number of items not written because a later item in the same flush had the same key
+     * @param failed the number of items that could not be written
+     * @param averageFlushMillis the average time until all items of a flush were written
+     * @param maxFlushMillis the longest time until all items of a flush were written
+     */
+    public record Statistics(int buffered, long flushes, long requests, long written, long throttled, long dropped,
+            long superseded, long failed, double averageFlushMillis, double maxFlushMillis) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(DynamoDBBatchWriter.class);
+
+    private final DynamoDBPersistenceService service;
+    private final DynamoDbEnhancedAsyncClient client;
+    private final ExecutorService executor;
+    private final int bufferSize;
+    private final ScheduledFuture<?> flushJob;
+
+    private List<PendingPut<?>> buffer = new ArrayList<>();
+    private boolean dropping = false;
+    private final List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder superseded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalFlushNanos = new LongAdder();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    public DynamoDBBatchWriter(DynamoDBPersistenceService service, DynamoDbEnhancedAsyncClient client,
+            ScheduledExecutorService scheduler, int bufferSize, long commitIntervalMillis) {
+        this.service = service;
+        this.client = client;
+        this.executor = service.getExecutor();
+        this.bufferSize = bufferSize;
+        this.flushJob = scheduler.scheduleWithFixedDelay(this::flush, commitIntervalMillis, commitIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds an item to the buffer
+     *
+     * @param put item and the table it is written to
+     */
+    public void add(PendingPut<?> put) {
+        boolean flush;
+        synchronized (this) {
+            if (buffer.size() >= bufferSize) {
+                dropped.increment();
+                if (!dropping) {
+                    // only log once until the buffer has been flushed
+                    logger.warn("DynamoDB write buffer is full ({} items), dropping items until it has been flushed.",
+                            bufferSize);
+                    dropping = true;
+                }
+                return;
+            }
+            buffer.add(put);
+            flush = buffer.size() % MAX_BATCH_SIZE == 0;
+        }
+        if (flush) {
+            executor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Writes all buffered items.
+     *
+     * @return future completing when all items have been written or given up
+     */
+    public CompletableFuture<Void> flush() {
+        List<PendingPut<?>> buffered;
+        synchronized (this) {
+            if (buffer.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            buffered = buffer;
+            buffer = new ArrayList<>();
+            dropping = false;
+        }
+        List<PendingPut<?>> puts = deduplicate(buffered);
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < puts.size(); i += MAX_BATCH_SIZE) {
+            futures.add(write(puts.subList(i, Math.min(puts.size(), i + MAX_BATCH_SIZE)), 0));
+        }
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((result, exception) -> {
+                    long nanos = System.nanoTime() - start;
+                    flushes.increment();
+                    totalFlushNanos.add(nanos);
+                    maxFlushNanos.accumulateAndGet(nanos, Math::max);
+                    logger.trace("Flushed {} items in {} ms", puts.size(), TimeUnit.NANOSECONDS.toMillis(nanos));
+                });
+        synchronized (inFlight) {
+            inFlight.removeIf(CompletableFuture::isDone);
+            inFlight.add(all);
+        }
+        return all;
+    }
+
+    /**
+     * Stops the periodic flush and writes all buffered items, waiting for pending writes to complete
+     */
+    public void close() {
+        flushJob.cancel(false);
+        logger.debug("Closing DynamoDB write buffer: {}", getStatistics());
+        flush();
+        CompletableFuture<?>[] pending;
+        synchronized (inFlight) {
+            pending = inFlight.toArray(CompletableFuture[]::new);
+            inFlight.clear();
+        }
+        try {
+            CompletableFuture.allOf(pending).get(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("Not all buffered items could be written to DynamoDB: {} {}", e.getClass().getSimpleName(),
+                    e.getMessage());
+        }
+    }
+
+    public Statistics getStatistics() {
+        int buffered;
+        synchronized (this) {
+            buffered = buffer.size();
+        }
+        long count = flushes.sum();
+        double average = count == 0 ? 0.0 : totalFlushNanos.sum() / (count * 1_000_000.0);
+        return new Statistics(buffered, count, requests.sum(), written.sum(), throttled.sum(), dropped.sum(),
+                superseded.sum(), failed.sum(), average, maxFlushNanos.get() / 1_000_000.0);
+    }
+
+    /**
+     * Keeps only the last item per key, at the position of the first one
+     */
+    private List<PendingPut<?>> deduplicate(List<PendingPut<?>> puts) {
+        Map<Key, PendingPut<?>> byKey = new LinkedHashMap<>();
+        puts.forEach(put -> byKey.put(put.key(), put));
+        if (byKey.size() == puts.size()) {
+            return puts;
+        }
+        logger.debug("Writing {} of {} buffered items, the others were superseded by items with the same key",
+                byKey.size(), puts.size());
+        superseded.add(puts.size() - byKey.size());
+        return new ArrayList<>(byKey.values());
+    }
+
+    private CompletableFuture<Void> write(List<PendingPut<?>> puts, int attempt) {
+        Map<String, List<PendingPut<?>>> byTable = new LinkedHashMap<>();
+        for (PendingPut<?> put : puts) {
+            byTable.computeIfAbsent(put.table().tableName(), name -> new ArrayList<>()).add(put);
+        }
+        BatchWriteItemEnhancedRequest.Builder request = BatchWriteItemEnhancedRequest.builder();
+        byTable.values().forEach(tablePuts -> request.addWriteBatch(toWriteBatch(tablePuts)));
+
+        requests.increment();
+        return client.batchWriteItem(request.build()).handleAsync((result, exception) -> {
+            if (exception == null) {
+                List<PendingPut<?>> unprocessed = new ArrayList<>();
+                byTable.values().forEach(tablePuts -> unprocessed.addAll(unprocessed(result, tablePuts)));
+                written.add(puts.size() - unprocessed.size());
+                if (unprocessed.isEmpty()) {
+                    return CompletableFuture.<Void> completedFuture(null);
+                }
+                throttled.add(unprocessed.size());
+                return retry(unprocessed, attempt);
+            }
+
+            Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                    ? exception.getCause()
+                    : exception;
+            if (cause instanceof ResourceNotFoundException) {
+                logger.trace("BatchWriteItem: table does not exist, writing {} items one by one creating the table",
+                        puts.size());
+                return putItems(puts);
+            } else if (isValidationError(cause)) {
+                // a single invalid item rejects the whole batch, write them one by one so only that item fails
+                logger.debug("BatchWriteItem: rejected with {}, writing {} items one by one", cause.getMessage(),
+                        puts.size());
+                return putItems(puts);
+            } else if (cause instanceof ProvisionedThroughputExceededException
+                    || cause instanceof RequestLimitExceededException) {
+                throttled.add(puts.size());
+                return retry(puts, attempt);
+            }
+            logger.warn("BatchWriteItem: failed (final) with {} {}. Dropping {} items.",
+                    cause.getClass().getSimpleName(), cause.getMessage(), puts.size());
+            failed.add(puts.size());
+            return CompletableFuture.<Void> completedFuture(null);
+        }, executor).thenCompose(future -> future);
+    }
+
+    private CompletableFuture<Void> retry(List<PendingPut<?>> puts, int attempt) {
+        if (attempt >= MAX_RETRIES) {
+            logger.warn("BatchWriteItem: {} items still unprocessed after {} retries. Dropping them.", puts.size(),
+                    MAX_RETRIES);
+            failed.add(puts.size());
+            return CompletableFuture.completedFuture(null);
+        }
+        long delay = backoffMillis(attempt);
+        logger.debug("BatchWriteItem: {} items unprocessed, retrying in {} ms", puts.size(), delay);
+        return CompletableFuture.supplyAsync(() -> write(puts, attempt + 1),
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor))
+                .thenCompose(future -> future);
+    }
+
+    private CompletableFuture<Void> putItems(List<PendingPut<?>> puts) {
+        CompletableFuture<?>[] futures = puts.stream().map(this::putItem).toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futures);
+    }
+
+    private <T extends DynamoDBItem<?>> CompletableFuture<Void> putItem(PendingPut<T> put) {
+        return new TableCreatingPutItem<>(service, put.item(), put.table()).putItemAsync()
+                .handle((result, exception) -> {
+                    if (exception == null) {
+                        written.increment();
+                    } else {
+                        failed.increment();
+                    }
+                    return null;
+                });
+    }
+
+    private static boolean isValidationError(Throwable cause) {
+        if (cause instanceof DynamoDbException dynamoDbException) {
+            AwsErrorDetails details = dynamoDbException.awsErrorDetails();
+            return details != null && VALIDATION_EXCEPTION.equals(details.errorCode());
+        }
+        return false;
+    }
+
+    /**
+     * Full jitter backoff: random delay between zero and the exponentially growing upper bound
+     */
+    static long backoffMillis(int attempt) {
+        long bound = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    @SuppressWarnings("unchecked") // all puts share the same table
+    private static <T extends DynamoDBItem<?>> WriteBatch toWriteBatch(List<PendingPut<?>> puts) {
+        DynamoDbAsyncTable<T> table = (DynamoDbAsyncTable<T>) puts.getFirst().table();
+        WriteBatch.Builder<T> builder = WriteBatch.builder(table.tableSchema().itemType().rawClass())
+                .mappedTableResource(table);
+        puts.forEach(put -> builder.addPutItem((T) put.item()));
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked") // all puts share the same table
+    private static <T extends DynamoDBItem<?>> List<PendingPut<?>> unprocessed(@Nullable BatchWriteResult result,
+            List<PendingPut<?>> puts) {
+        if (result == null) {
+            return List.of();
+        }
+        DynamoDbAsyncTable<T> table = (DynamoDbAsyncTable<T>) puts.getFirst().table();
+        return result.unprocessedPutItemsForTable(table).stream()
+                .<PendingPut<?>> map(item -> new PendingPut<>(table, item)).toList();
+    }
+}
@@ -119,6 +119,7 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             2);
 
     private @Nullable URI endpointOverride;
+    private @Nullable DynamoDBBatchWriter batchWriter;
 
     void overrideConfig(AwsRequestOverrideConfiguration.Builder config) {
         config.apiCallAttemptTimeout(TIMEOUT_API_CALL_ATTEMPT).apiCallTimeout(TIMEOUT_API_CALL);
@@ -197,6 +198,16 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             return;
         }
 
+        int bufferSize = localDbConfig.getBufferSize();
+        DynamoDbEnhancedAsyncClient localClient = client;
+        if (bufferSize > 0 && localClient != null) {
+            logger.debug("Buffering up to {} items, writing them every {} ms with BatchWriteItem", bufferSize,
+                    localDbConfig.getBufferCommitIntervalMillis());
+            batchWriter = new DynamoDBBatchWriter(this, localClient,
+                    ThreadPoolManager.getScheduledPool(DYNAMODB_THREADPOOL_NAME), bufferSize,
+                    localDbConfig.getBufferCommitIntervalMillis());
+        }
+
         isProperlyConfigured = true;
         logger.debug("dynamodb persistence service activated");
     }
@@ -316,6 +327,12 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     }
 
     private void disconnect() {
+        DynamoDBBatchWriter localBatchWriter = batchWriter;
+        if (localBatchWriter != null) {
+            // write buffered items while the client is still available
+            batchWriter = null;
+            localBatchWriter.close();
+        }
         DynamoDbAsyncClient localLowLevelClient = lowLevelClient;
         if (client == null || localLowLevelClient == null) {
             return;
@@ -329,6 +346,14 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         tableCache.clear();
     }
 
+    /**
+     * @return statistics of the buffered writes, or null if items are written one by one
+     */
+    public DynamoDBBatchWriter.@Nullable Statistics getBatchWriteStatistics() {
+        DynamoDBBatchWriter localBatchWriter = batchWriter;
+        return localBatchWriter == null ? null : localBatchWriter.getStatistics();
+    }
+
     protected boolean isReadyToStore() {
         return isProperlyConfigured && ensureClient();
     }
@@ -566,6 +591,24 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             }
             logger.trace("store() called with item {} {} '{}', which was converted to DTO {}",
                     copiedItem.getClass().getSimpleName(), effectiveName, copiedItem.getState(), dto);
+            DynamoDBBatchWriter localBatchWriter = batchWriter;
+            if (localBatchWriter != null) {
+                localBatchWriter.add(dto.accept(new DynamoDBItemVisitor<DynamoDBBatchWriter.PendingPut<?>>() {
+
+                    @Override
+                    public DynamoDBBatchWriter.PendingPut<?> visit(DynamoDBBigDecimalItem dynamoBigDecimalItem) {
+                        return new DynamoDBBatchWriter.PendingPut<>(getTable(DynamoDBBigDecimalItem.class),
+                                dynamoBigDecimalItem);
+                    }
+
+                    @Override
+                    public DynamoDBBatchWriter.PendingPut<?> visit(DynamoDBStringItem dynamoStringItem) {
+                        return new DynamoDBBatchWriter.PendingPut<>(getTable(DynamoDBStringItem.class),
+                                dynamoStringItem);
+                    }
+                }));
+                return;
+            }
             dto.accept(new DynamoDBItemVisitor<TableCreatingPutItem<? extends DynamoDBItem<?>>>() {
 
                 @Override
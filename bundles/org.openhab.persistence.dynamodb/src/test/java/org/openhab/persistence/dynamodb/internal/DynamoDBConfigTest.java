@@ -254,5 +254,22 @@ public class DynamoDBConfigTest {
         assertEquals(5, fromConfig.getWriteCapacityUnits());
         assertEquals(Optional.empty(), fromConfig.getRetryPolicy().map(RetryPolicy::retryMode));
         assertEquals(ExpectedTableSchema.MAYBE_LEGACY, fromConfig.getTableRevision());
+        assertEquals(112, fromConfig.getBufferSize());
+        assertEquals(501, fromConfig.getBufferCommitIntervalMillis());
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testBufferDisabledByDefault() throws Exception {
+        DynamoDBConfig fromConfig = DynamoDBConfig
+                .fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey", "secret1"));
+        assertEquals(0, fromConfig.getBufferSize());
+        assertEquals(1000, fromConfig.getBufferCommitIntervalMillis());
+    }
+
+    @Test
+    public void testNegativeBufferSize() throws Exception {
+        assertNull(DynamoDBConfig.fromConfig(
+                mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey", "secret1", "bufferSize", "-1")));
     }
 }
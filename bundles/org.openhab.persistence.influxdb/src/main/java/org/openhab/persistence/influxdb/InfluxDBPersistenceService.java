@@ -14,9 +14,9 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,21 +24,25 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemFactory;
+import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.ItemUtil;
+import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
@@ -49,6 +53,7 @@ import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
+import org.openhab.persistence.influxdb.internal.InfluxDBAggregation;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
@@ -56,6 +61,7 @@ import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
+import org.openhab.persistence.influxdb.internal.InfluxPointBuffer;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
 import org.osgi.framework.Constants;
@@ -98,6 +104,9 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     private static final int COMMIT_INTERVAL = 3; // in s
+    private static final int MAX_RETRY_INTERVAL = 300; // in s
+    private static final Path SPILL_FILE = Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb",
+            "buffer.bin");
     protected static final String CONFIG_URI = "persistence:influxdb";
 
     // External dependencies
@@ -110,7 +119,13 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     // storage
     private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final InfluxPointBuffer pointsBuffer;
+    private int retryInterval = 0; // in s, 0 if the last write succeeded
+    private long nextWriteAttempt = 0; // in ms
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder failedWrites = new LongAdder();
+    private final LongAdder writeTime = new LongAdder(); // in ns
+    private final AtomicLong maxWriteTime = new AtomicLong(); // in ns
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -122,6 +137,9 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.itemRegistry = itemRegistry;
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
+        this.pointsBuffer = new InfluxPointBuffer(configuration.getBufferSize(),
+                configuration.getSpillFileSize() > 0 ? SPILL_FILE : null,
+                configuration.getSpillFileSize() * 1024L * 1024L);
         if (configuration.isValid()) {
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
@@ -154,8 +172,14 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         storeJob.cancel(false);
         commit(); // ensure we at least tried to store the data;
 
-        if (!pointsQueue.isEmpty()) {
-            logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
+        pointsBuffer.spillAll();
+        if (!pointsBuffer.isEmpty()) {
+            if (pointsBuffer.getSpilledPoints() == pointsBuffer.size()) {
+                logger.info("InfluxDB could not store {} points, they are kept for the next start.",
+                        pointsBuffer.size());
+            } else {
+                logger.warn("InfluxDB failed to finally store {} points.", pointsBuffer.size());
+            }
         }
 
         influxDBRepository.disconnect();
@@ -209,10 +233,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 logger.trace("Ignoring item {}, conversion to an InfluxDB point failed.", item.getName());
                 return;
             }
-            if (pointsQueue.offer(point)) {
+            if (pointsBuffer.add(point)) {
                 logger.trace("Queued {} for item {}", point, item);
             } else {
-                logger.warn("Failed to queue {} for item {}", point, item);
+                logger.debug("Failed to queue {} for item {}", point, item);
             }
         });
     }
@@ -238,11 +262,65 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias) {
+        return query(filter, alias, defaultAggregation(filter));
+    }
+
+    /**
+     * Determines the aggregation of a query if a query resolution is configured. Only range queries of numeric items
+     * that would return every stored value are aggregated, so that e.g. charts receive at most the configured number
+     * of mean values.
+     *
+     * @param filter the query filter
+     * @return the aggregation, or <code>null</code> if every stored value is returned
+     */
+    private @Nullable InfluxDBAggregation defaultAggregation(FilterCriteria filter) {
+        int resolution = configuration.getQueryResolution();
+        String itemName = filter.getItemName();
+        ZonedDateTime begin = filter.getBeginDate();
+        if (resolution == 0 || itemName == null || begin == null || filter.getState() != null
+                || filter.getPageNumber() != 0 || filter.getPageSize() <= resolution) {
+            return null;
+        }
+        try {
+            Item item = itemRegistry.getItem(itemName);
+            if (item instanceof GroupItem groupItem) {
+                item = groupItem.getBaseItem();
+            }
+            if (!(item instanceof NumberItem)) {
+                return null;
+            }
+        } catch (ItemNotFoundException e) {
+            return null;
+        }
+        ZonedDateTime end = Objects.requireNonNullElseGet(filter.getEndDate(), ZonedDateTime::now);
+        if (!end.isAfter(begin)) {
+            return null;
+        }
+        return InfluxDBAggregation.forResolution(InfluxDBAggregation.Function.MEAN, begin, end, resolution);
+    }
+
+    /**
+     * Queries the values of an item aggregated into time windows. The values are aggregated by the database, so only
+     * one value per window is transferred, e.g. for averages or charts at a given resolution. Windows without values
+     * are omitted. Aggregation is only supported for numeric values and requires a begin date, so that the number
+     * of windows is bounded.
+     *
+     * @param filter the query filter
+     * @param alias an (optional) alias for the item
+     * @param aggregation the aggregation function and window, or <code>null</code> to return every stored value
+     * @return the aggregated values, timestamped with the end of their window
+     */
+    public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias,
+            @Nullable InfluxDBAggregation aggregation) {
         String itemName = filter.getItemName();
         if (itemName == null) {
             logger.warn("Item name is missing in filter {} when querying data.", filter);
             return List.of();
         }
+        if (aggregation != null && filter.getBeginDate() == null) {
+            logger.warn("Begin date is missing in filter {} when querying aggregated data.", filter);
+            return List.of();
+        }
         if (serviceActivated && checkConnection()) {
             logger.trace(
                     "Query-Filter: itemname: {}, ordering: {}, state: {},  operator: {}, getBeginDate: {}, getEndDate: {}, getPageSize: {}, getPageNumber: {}",
@@ -250,17 +328,19 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                     filter.getBeginDate(), filter.getEndDate(), filter.getPageSize(), filter.getPageNumber());
 
             List<InfluxDBRepository.InfluxRow> results = influxDBRepository.query(filter,
-                    configuration.getRetentionPolicy(), alias);
-            return results.stream().map(r -> mapRowToHistoricItem(r, itemName)).collect(Collectors.toList());
+                    configuration.getRetentionPolicy(), alias, aggregation);
+            return results.stream().map(r -> mapRowToHistoricItem(r, itemName, aggregation != null))
+                    .collect(Collectors.toList());
         } else {
             logger.debug("Query for persisted data ignored, InfluxDB is not connected");
             return List.of();
         }
     }
 
-    private HistoricItem mapRowToHistoricItem(InfluxDBRepository.InfluxRow row, String itemName) {
+    private HistoricItem mapRowToHistoricItem(InfluxDBRepository.InfluxRow row, String itemName, boolean aggregated) {
         State state = InfluxDBStateConvertUtils.objectToState(row.value(), itemName, itemRegistry);
-        return new InfluxDBHistoricItem(row.itemName(), state, row.time());
+        // aggregated rows have no item tag, they belong to the queried item
+        return new InfluxDBHistoricItem(aggregated ? itemName : row.itemName(), state, row.time());
     }
 
     @Override
@@ -283,20 +363,61 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         return false;
     }
 
-    private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
-            List<InfluxPoint> points = new ArrayList<>();
-            pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
-                logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
+    private synchronized void commit() {
+        if (System.currentTimeMillis() < nextWriteAttempt) {
+            // wait until the retry interval after a failed write has passed
+            return;
+        }
+        while (!pointsBuffer.isEmpty() && checkConnection()) {
+            List<InfluxPoint> points = pointsBuffer.poll(configuration.getBatchSize());
+            long start = System.nanoTime();
+            boolean success = influxDBRepository.write(points);
+            long duration = System.nanoTime() - start;
+            writes.increment();
+            writeTime.add(duration);
+            maxWriteTime.accumulateAndGet(duration, Math::max);
+            if (!success) {
+                failedWrites.increment();
+                pointsBuffer.requeue(points);
+                retryInterval = Math.min(Math.max(COMMIT_INTERVAL, retryInterval * 2), MAX_RETRY_INTERVAL);
+                nextWriteAttempt = System.currentTimeMillis() + retryInterval * 1000L;
+                logger.warn("Re-queuing {} elements, failed to write batch. Retrying in {} s.", points.size(),
+                        retryInterval);
                 influxDBRepository.disconnect();
-            } else {
-                logger.trace("Wrote {} elements to database", points.size());
+                return;
             }
+            retryInterval = 0;
+            logger.trace("Wrote {} elements to database", points.size());
         }
     }
 
+    /**
+     * Returns the current state of the write buffer and the write latency.
+     *
+     * @return the buffer statistics
+     */
+    public BufferStatistics getBufferStatistics() {
+        long count = writes.sum();
+        return new BufferStatistics(pointsBuffer.size(), pointsBuffer.getSpilledPoints(),
+                pointsBuffer.getDroppedPoints(), count, failedWrites.sum(),
+                count == 0 ? 0.0 : writeTime.sum() / (count * 1_000_000.0), maxWriteTime.get() / 1_000_000.0);
+    }
+
+    /**
+     * A point-in-time view of the write buffer.
+     *
+     * @param queued the number of points waiting to be written, including spilled points
+     * @param spilled the number of points in the spill file
+     * @param dropped the number of points dropped because the buffer was full
+     * @param writes the number of batches written to the database
+     * @param failedWrites the number of failed batch writes
+     * @param averageWriteMillis the average duration of a batch write
+     * @param maxWriteMillis the longest duration of a batch write
+     */
+    public record BufferStatistics(int queued, int spilled, long dropped, long writes, long failedWrites,
+            double averageWriteMillis, double maxWriteMillis) {
+    }
+
     /**
      * Convert incoming data to an {@link InfluxPoint} for further processing. This is needed because storage is
      * asynchronous and the item data may have changed.
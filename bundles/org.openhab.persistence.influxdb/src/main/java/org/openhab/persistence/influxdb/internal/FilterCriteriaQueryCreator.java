@@ -31,7 +31,22 @@ public interface FilterCriteriaQueryCreator {
      * @param alias
      * @return Created query as a String
      */
-    String createQuery(FilterCriteria criteria, String retentionPolicy, @Nullable String alias);
+    default String createQuery(FilterCriteria criteria, String retentionPolicy, @Nullable String alias) {
+        return createQuery(criteria, retentionPolicy, alias, null);
+    }
+
+    /**
+     * Create query from {@link FilterCriteria} that aggregates the values in the database
+     *
+     * @param criteria Criteria to create query from
+     * @param retentionPolicy Name of the retentionPolicy/bucket to use in query
+     * @param alias
+     * @param aggregation the aggregation of the values or <code>null</code> to return every stored point
+     * @return Created query as a String
+     * @throws IllegalArgumentException if the values are aggregated, but the criteria have no begin date
+     */
+    String createQuery(FilterCriteria criteria, String retentionPolicy, @Nullable String alias,
+            @Nullable InfluxDBAggregation aggregation);
 
     default String getOperationSymbol(FilterCriteria.Operator operator, InfluxDBVersion version) {
         return switch (operator) {
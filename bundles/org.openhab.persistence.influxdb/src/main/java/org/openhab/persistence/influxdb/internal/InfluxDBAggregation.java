@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Aggregation of the values of a query into time windows, so that the database returns one value per window instead
+ * of every stored point.
+ *
+ * Windows are aligned to the epoch by both InfluxDB versions. Every aggregated value is timestamped with the end of
+ * its window, the last window ends at the end of the queried range at the latest. InfluxQL returns the start of a
+ * window, so the InfluxDB 1 repository shifts the timestamps with {@link #windowEnd(Instant, ZonedDateTime)}.
+ *
+ * @param function the function used to combine the values of a window
+ * @param window the length of a window, at least one millisecond
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public record InfluxDBAggregation(Function function, Duration window) {
+
+    public enum Function {
+        MEAN("mean"),
+        MIN("min"),
+        MAX("max"),
+        SUM("sum");
+
+        private final String fluxName;
+
+        Function(String fluxName) {
+            this.fluxName = fluxName;
+        }
+
+        /**
+         * @return the name of the aggregate function in Flux
+         */
+        public String getFluxName() {
+            return fluxName;
+        }
+    }
+
+    public InfluxDBAggregation {
+        if (window.toMillis() < 1) {
+            throw new IllegalArgumentException("window must be at least one millisecond");
+        }
+    }
+
+    /**
+     * Creates an aggregation that returns at most the given number of values for a time range, e.g. one value per
+     * pixel of a chart.
+     *
+     * @param function the function used to combine the values of a window
+     * @param begin the begin of the queried range
+     * @param end the end of the queried range
+     * @param points the maximum number of values
+     * @return the aggregation
+     */
+    public static InfluxDBAggregation forResolution(Function function, ZonedDateTime begin, ZonedDateTime end,
+            int points) {
+        long rangeMillis = Duration.between(begin, end).toMillis();
+        long windowMillis = (rangeMillis + Math.max(1, points) - 1) / Math.max(1, points);
+        return new InfluxDBAggregation(function, Duration.ofMillis(Math.max(1, windowMillis)));
+    }
+
+    /**
+     * Returns the end of a window, as Flux reports it for aggregated values.
+     *
+     * @param windowStart the start of the window
+     * @param rangeEnd the end of the queried range, or <code>null</code> if the range is open
+     * @return the end of the window, but not after the end of the range
+     */
+    public Instant windowEnd(Instant windowStart, @Nullable ZonedDateTime rangeEnd) {
+        Instant windowEnd = windowStart.plus(window);
+        if (rangeEnd != null && windowEnd.isAfter(rangeEnd.toInstant())) {
+            return rangeEnd.toInstant();
+        }
+        return windowEnd;
+    }
+}
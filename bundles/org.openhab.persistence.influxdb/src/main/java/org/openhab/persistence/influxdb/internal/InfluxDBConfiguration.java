@@ -39,6 +39,10 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String BUFFER_SIZE_PARAM = "bufferSize";
+    public static final String BATCH_SIZE_PARAM = "batchSize";
+    public static final String SPILL_FILE_SIZE_PARAM = "spillFileSize";
+    public static final String QUERY_RESOLUTION_PARAM = "queryResolution";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +55,10 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int bufferSize;
+    private final int batchSize;
+    private final int spillFileSize;
+    private final int queryResolution;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +72,11 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        bufferSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(BUFFER_SIZE_PARAM), Integer.class, 10000));
+        batchSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(BATCH_SIZE_PARAM), Integer.class, 1000));
+        spillFileSize = Math.max(0, ConfigParser.valueAsOrElse(config.get(SPILL_FILE_SIZE_PARAM), Integer.class, 50));
+        queryResolution = Math.max(0,
+                ConfigParser.valueAsOrElse(config.get(QUERY_RESOLUTION_PARAM), Integer.class, 0));
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -142,6 +155,29 @@ public class InfluxDBConfiguration {
         return addLabelTag;
     }
 
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the maximum size of the spill file in MB, 0 if points should not be spilled to disk
+     */
+    public int getSpillFileSize() {
+        return spillFileSize;
+    }
+
+    /**
+     * @return the maximum number of values returned by a range query of a numeric item, 0 if queries are not
+     *         aggregated
+     */
+    public int getQueryResolution() {
+        return queryResolution;
+    }
+
     public String getUser() {
         return user;
     }
@@ -160,6 +196,7 @@ public class InfluxDBConfiguration {
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", bufferSize=" + bufferSize + ", batchSize=" + batchSize
+                + ", spillFileSize=" + spillFileSize + ", queryResolution=" + queryResolution + '}';
     }
 }
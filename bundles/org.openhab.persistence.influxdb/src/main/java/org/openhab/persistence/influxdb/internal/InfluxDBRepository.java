@@ -68,7 +68,20 @@ public interface InfluxDBRepository {
      * @return Query results
      *
      */
-    List<InfluxRow> query(FilterCriteria filter, String retentionPolicy, @Nullable String alias);
+    default List<InfluxRow> query(FilterCriteria filter, String retentionPolicy, @Nullable String alias) {
+        return query(filter, retentionPolicy, alias, null);
+    }
+
+    /**
+     * Executes a query that aggregates the values in the database
+     *
+     * @param filter the query filter
+     * @param alias
+     * @param aggregation the aggregation of the values or <code>null</code> to return every stored point
+     * @return Query results, one row per aggregation window
+     */
+    List<InfluxRow> query(FilterCriteria filter, String retentionPolicy, @Nullable String alias,
+            @Nullable InfluxDBAggregation aggregation);
 
     /**
      * Write points to database
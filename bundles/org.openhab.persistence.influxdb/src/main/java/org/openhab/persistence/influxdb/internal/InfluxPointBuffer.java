@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers {@link InfluxPoint}s until they are written to the database. The buffer holds a bounded number of points
+ * in memory, further points are appended to a local spill file. As long as the spill file holds points, new points
+ * are appended to it as well, so points are written in the order they were added. Points that neither fit into memory
+ * nor into the spill file are dropped.
+ * <p>
+ * The part of the spill file that was already replayed is discarded by rewriting the file once it makes up half of
+ * the file or the file would otherwise exceed its maximum size. The file is kept open for appending while points are
+ * spilled, its size is tracked in memory.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxPointBuffer {
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_DECIMAL = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_INTEGER = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_BOOLEAN = 6;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxPointBuffer.class);
+
+    private final int capacity;
+    private final @Nullable Path spillFile;
+    private final long maxSpillFileSize;
+
+    private final Deque<InfluxPoint> points = new ArrayDeque<>();
+    private @Nullable FileChannel spillChannel;
+    private long spillFileSize = 0;
+    private long spillReadPosition = 0;
+    private int spilledPoints = 0;
+    private long droppedPoints = 0;
+    private boolean dropping = false;
+
+    /**
+     * Creates a new buffer. Points spilled by a previous instance using the same file are replayed.
+     *
+     * @param capacity the maximum number of points kept in memory
+     * @param spillFile the file for points that do not fit into memory or <code>null</code> to drop them
+     * @param maxSpillFileSize the maximum size of the spill file in bytes
+     */
+    public InfluxPointBuffer(int capacity, @Nullable Path spillFile, long maxSpillFileSize) {
+        this.capacity = capacity;
+        this.spillFile = spillFile;
+        this.maxSpillFileSize = maxSpillFileSize;
+
+        if (spillFile != null && Files.exists(spillFile)) {
+            try {
+                spilledPoints = recoverSpilledPoints(spillFile);
+                logger.info("Found {} points from a previous run in '{}', they will be written to the database.",
+                        spilledPoints, spillFile);
+            } catch (IOException e) {
+                logger.warn("Discarding unreadable spill file '{}': {}", spillFile, e.getMessage());
+                deleteSpillFile();
+            }
+        }
+    }
+
+    /**
+     * Adds a point to the buffer.
+     *
+     * @param point the point to add
+     * @return <code>true</code> if the point was added, <code>false</code> if it was dropped
+     */
+    public synchronized boolean add(InfluxPoint point) {
+        if (spilledPoints == 0 && points.size() < capacity) {
+            points.addLast(point);
+            return true;
+        }
+        return spill(point);
+    }
+
+    /**
+     * Removes the oldest points from the buffer.
+     *
+     * @param maxPoints the maximum number of points to return
+     * @return the removed points, empty if the buffer is empty
+     */
+    public synchronized List<InfluxPoint> poll(int maxPoints) {
+        List<InfluxPoint> batch = new ArrayList<>(Math.min(maxPoints, size()));
+        while (batch.size() < maxPoints && !points.isEmpty()) {
+            batch.add(points.pollFirst());
+        }
+        if (batch.size() < maxPoints && spilledPoints > 0) {
+            readSpilledPoints(batch, maxPoints);
+        }
+        dropping = false;
+        return batch;
+    }
+
+    /**
+     * Returns points that could not be written to the front of the buffer. They are kept in memory to preserve their
+     * order, so the memory may temporarily hold up to one batch more than its capacity.
+     *
+     * @param batch the points returned by {@link #poll(int)}
+     */
+    public synchronized void requeue(List<InfluxPoint> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            points.addFirst(batch.get(i));
+        }
+    }
+
+    /**
+     * Moves all points in memory to the front of the spill file, so they survive a restart, and closes the file. It is
+     * reopened if further points are spilled.
+     */
+    public synchronized void spillAll() {
+        if (spillFile != null && !points.isEmpty()) {
+            if (!rewriteSpillFile(points)) {
+                drop(points.size());
+            }
+            points.clear();
+        }
+        closeSpillChannel();
+    }
+
+    public synchronized boolean isEmpty() {
+        return points.isEmpty() && spilledPoints == 0;
+    }
+
+    public synchronized int size() {
+        return points.size() + spilledPoints;
+    }
+
+    public synchronized int getSpilledPoints() {
+        return spilledPoints;
+    }
+
+    public synchronized long getDroppedPoints() {
+        return droppedPoints;
+    }
+
+    private boolean spill(InfluxPoint point) {
+        Path file = spillFile;
+        if (file == null) {
+            drop(1);
+            return false;
+        }
+
+        try {
+            byte[] record = serialize(point);
+            if (spillFileSize + Integer.BYTES + record.length > maxSpillFileSize && spillReadPosition > 0) {
+                rewriteSpillFile(List.of());
+            }
+            if (spillFileSize + Integer.BYTES + record.length > maxSpillFileSize) {
+                drop(1);
+                return false;
+            }
+            FileChannel channel = openSpillChannel(file);
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + record.length).putInt(record.length).put(record)
+                    .flip();
+            try {
+                // records are written at the tracked end of the file, so a partially written one is overwritten
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer, spillFileSize + buffer.position());
+                }
+            } catch (IOException e) {
+                channel.truncate(spillFileSize);
+                throw e;
+            }
+            spillFileSize += Integer.BYTES + record.length;
+        } catch (IOException e) {
+            logger.warn("Failed to spill points to '{}': {}", file, e.getMessage());
+            drop(1);
+            return false;
+        }
+        spilledPoints++;
+        return true;
+    }
+
+    private FileChannel openSpillChannel(Path file) throws IOException {
+        FileChannel channel = spillChannel;
+        if (channel == null) {
+            Path folder = file.getParent();
+            if (folder != null) {
+                Files.createDirectories(folder);
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            spillChannel = channel;
+        }
+        return channel;
+    }
+
+    private void closeSpillChannel() {
+        FileChannel channel = spillChannel;
+        if (channel != null) {
+            spillChannel = null;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close spill file '{}': {}", spillFile, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Replaces the spill file by the given points followed by the points that were not replayed yet. Points that
+     * exceed the maximum file size are dropped, starting with the newest.
+     *
+     * @return <code>false</code> if the file could not be rewritten, it is left unchanged in that case
+     */
+    private boolean rewriteSpillFile(Collection<InfluxPoint> head) {
+        Path file = spillFile;
+        if (file == null) {
+            return false;
+        }
+
+        // the file is replaced, so it has to be reopened for further points
+        closeSpillChannel();
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        int written = 0;
+        long size = 0;
+        try {
+            Path folder = file.getParent();
+            if (folder != null) {
+                Files.createDirectories(folder);
+            }
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                for (InfluxPoint point : head) {
+                    byte[] record = serialize(point);
+                    if (size + Integer.BYTES + record.length > maxSpillFileSize) {
+                        break;
+                    }
+                    out.writeInt(record.length);
+                    out.write(record);
+                    size += Integer.BYTES + record.length;
+                    written++;
+                }
+                if (spilledPoints > 0 && written == head.size()) {
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                        channel.position(spillReadPosition);
+                        DataInputStream in = new DataInputStream(
+                                new BufferedInputStream(Channels.newInputStream(channel)));
+                        for (int i = 0; i < spilledPoints; i++) {
+                            byte[] record = new byte[in.readInt()];
+                            in.readFully(record);
+                            if (size + Integer.BYTES + record.length > maxSpillFileSize) {
+                                break;
+                            }
+                            out.writeInt(record.length);
+                            out.write(record);
+                            size += Integer.BYTES + record.length;
+                            written++;
+                        }
+                    }
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to rewrite spill file '{}': {}", file, e.getMessage());
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e1) {
+                logger.debug("Failed to delete '{}': {}", tempFile, e1.getMessage());
+            }
+            return false;
+        }
+        int total = head.size() + spilledPoints;
+        spillFileSize = size;
+        spillReadPosition = 0;
+        spilledPoints = written;
+        if (written < total) {
+            drop(total - written);
+        }
+        return true;
+    }
+
+    private void drop(int count) {
+        droppedPoints += count;
+        if (!dropping) {
+            // only log once until the buffer has space again
+            logger.warn("InfluxDB write buffer is full, dropping points until it has been written to the database.");
+            dropping = true;
+        }
+    }
+
+    private void readSpilledPoints(List<InfluxPoint> batch, int maxPoints) {
+        Path file = spillFile;
+        if (file == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(spillReadPosition);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            while (batch.size() < maxPoints && spilledPoints > 0) {
+                byte[] record = new byte[in.readInt()];
+                in.readFully(record);
+                batch.add(deserialize(record));
+                spillReadPosition += Integer.BYTES + record.length;
+                spilledPoints--;
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to read spilled points from '{}', dropping {} points: {}", file, spilledPoints,
+                    e.getMessage());
+            droppedPoints += spilledPoints;
+            spilledPoints = 0;
+        }
+        if (spilledPoints == 0) {
+            deleteSpillFile();
+        } else if (spillReadPosition >= spillFileSize / 2) {
+            rewriteSpillFile(List.of());
+        }
+    }
+
+    private void deleteSpillFile() {
+        closeSpillChannel();
+        Path file = spillFile;
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Failed to delete spill file '{}': {}", file, e.getMessage());
+            }
+        }
+        spillFileSize = 0;
+        spillReadPosition = 0;
+        spilledPoints = 0;
+    }
+
+    /**
+     * Counts the points in a spill file of a previous instance. A record that was only partially written, e.g. because
+     * the system crashed, is cut off, so that further points can be appended.
+     *
+     * @return the number of complete records
+     */
+    private int recoverSpilledPoints(Path file) throws IOException {
+        int count = 0;
+        long position = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            while (position + Integer.BYTES <= size) {
+                int length = in.readInt();
+                if (length < 0 || position + Integer.BYTES + length > size) {
+                    break;
+                }
+                in.skipNBytes(length);
+                position += Integer.BYTES + length;
+                count++;
+            }
+            if (position < size) {
+                logger.warn("Discarding incomplete last record of spill file '{}'.", file);
+                channel.truncate(position);
+            }
+        }
+        spillFileSize = position;
+        return count;
+    }
+
+    private static byte[] serialize(InfluxPoint point) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, point.getMeasurementName());
+        out.writeLong(point.getTime().getEpochSecond());
+        out.writeInt(point.getTime().getNano());
+        Object value = point.getValue();
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof BigDecimal decimal) {
+            out.writeByte(TYPE_DECIMAL);
+            writeString(out, decimal.toString());
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Integer intValue) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt(intValue);
+        } else if (value instanceof Number number) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(number.doubleValue());
+        } else if (value instanceof Boolean booleanValue) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(booleanValue);
+        } else {
+            out.writeByte(TYPE_STRING);
+            writeString(out, value.toString());
+        }
+        Map<String, String> tags = point.getTags();
+        out.writeInt(tags.size());
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            writeString(out, tag.getKey());
+            writeString(out, tag.getValue());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static InfluxPoint deserialize(byte[] record) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        InfluxPoint.Builder builder = InfluxPoint.newBuilder(readString(in))
+                .withTime(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+        byte type = in.readByte();
+        Object value = switch (type) {
+            case TYPE_NULL -> null;
+            case TYPE_DECIMAL -> new BigDecimal(readString(in));
+            case TYPE_LONG -> in.readLong();
+            case TYPE_INTEGER -> in.readInt();
+            case TYPE_DOUBLE -> in.readDouble();
+            case TYPE_BOOLEAN -> in.readBoolean();
+            case TYPE_STRING -> readString(in);
+            default -> throw new IOException("Unknown value type " + type);
+        };
+        if (value != null) {
+            builder.withValue(value);
+        }
+        int tags = in.readInt();
+        for (int i = 0; i < tags; i++) {
+            builder.withTag(readString(in), readString(in));
+        }
+        return builder.build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
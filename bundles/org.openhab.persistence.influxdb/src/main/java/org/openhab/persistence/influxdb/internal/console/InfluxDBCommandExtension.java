@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal.console;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceServiceRegistry;
+import org.openhab.persistence.influxdb.InfluxDBPersistenceService;
+import org.openhab.persistence.influxdb.internal.InfluxDBAggregation;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link InfluxDBCommandExtension} is responsible for handling console commands
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class InfluxDBCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String CMD_BUFFER = "buffer";
+    private static final String CMD_AGGREGATE = "aggregate";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_BUFFER, CMD_AGGREGATE),
+            false);
+    private static final StringsCompleter FUNCTION_COMPLETER = new StringsCompleter(
+            List.of("mean", "min", "max", "sum"), false);
+
+    private final PersistenceServiceRegistry persistenceServiceRegistry;
+
+    @Activate
+    public InfluxDBCommandExtension(final @Reference PersistenceServiceRegistry persistenceServiceRegistry) {
+        super(InfluxDBPersistenceService.SERVICE_NAME, "Interact with the InfluxDB persistence service.");
+        this.persistenceServiceRegistry = persistenceServiceRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        InfluxDBPersistenceService persistenceService = getPersistenceService();
+        if (persistenceService == null) {
+            console.println("No InfluxDB persistence service installed.");
+            return;
+        }
+        if (args.length == 1 && CMD_BUFFER.equalsIgnoreCase(args[0])) {
+            InfluxDBPersistenceService.BufferStatistics statistics = persistenceService.getBufferStatistics();
+            console.println("Queued points: " + statistics.queued() + " (spilled to disk: " + statistics.spilled()
+                    + ")");
+            console.println("Dropped points: " + statistics.dropped());
+            console.println("Batch writes: " + statistics.writes() + " (failed: " + statistics.failedWrites() + ")");
+            console.println(String.format("Write time: avg %.2f ms, max %.2f ms", statistics.averageWriteMillis(),
+                    statistics.maxWriteMillis()));
+            return;
+        }
+        if (args.length == 5 && CMD_AGGREGATE.equalsIgnoreCase(args[0])) {
+            aggregate(persistenceService, args, console);
+            return;
+        }
+        printUsage(console);
+    }
+
+    private void aggregate(InfluxDBPersistenceService persistenceService, String[] args, Console console) {
+        InfluxDBAggregation.Function function;
+        int hours;
+        int values;
+        try {
+            function = InfluxDBAggregation.Function.valueOf(args[2].toUpperCase(Locale.ROOT));
+            hours = Integer.parseInt(args[3]);
+            values = Integer.parseInt(args[4]);
+        } catch (IllegalArgumentException e) {
+            printUsage(console);
+            return;
+        }
+        if (hours <= 0 || values <= 0) {
+            printUsage(console);
+            return;
+        }
+
+        ZonedDateTime end = ZonedDateTime.now();
+        ZonedDateTime begin = end.minusHours(hours);
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(args[1]);
+        filter.setBeginDate(begin);
+        filter.setEndDate(end);
+        filter.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        InfluxDBAggregation aggregation = InfluxDBAggregation.forResolution(function, begin, end, values);
+
+        long start = System.nanoTime();
+        int count = 0;
+        for (HistoricItem historicItem : persistenceService.query(filter, null, aggregation)) {
+            console.println(historicItem.getTimestamp() + " " + historicItem.getState());
+            count++;
+        }
+        console.println(count + " values with a window of " + aggregation.window() + " in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
+
+    private @Nullable InfluxDBPersistenceService getPersistenceService() {
+        for (PersistenceService persistenceService : persistenceServiceRegistry.getAll()) {
+            if (persistenceService instanceof InfluxDBPersistenceService service) {
+                return service;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(CMD_BUFFER, "show the state of the write buffer"),
+                buildCommandUsage(CMD_AGGREGATE + " <itemName> <mean|min|max|sum> <hours> <values>",
+                        "aggregate the values of the last hours into at most the given number of values"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        if (cursorArgumentIndex == 2 && CMD_AGGREGATE.equalsIgnoreCase(args[0])) {
+            return FUNCTION_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
@@ -23,11 +23,13 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.influxdb.dto.Query;
 import org.influxdb.querybuilder.BuiltQuery;
 import org.influxdb.querybuilder.Select;
+import org.influxdb.querybuilder.SelectionQueryImpl;
 import org.influxdb.querybuilder.Where;
 import org.influxdb.querybuilder.clauses.SimpleClause;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.types.State;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
+import org.openhab.persistence.influxdb.internal.InfluxDBAggregation;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBVersion;
@@ -50,15 +52,25 @@ public class InfluxDB1FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
     }
 
     @Override
-    public String createQuery(FilterCriteria criteria, String retentionPolicy, @Nullable String alias) {
+    public String createQuery(FilterCriteria criteria, String retentionPolicy, @Nullable String alias,
+            @Nullable InfluxDBAggregation aggregation) {
+        if (aggregation != null && criteria.getBeginDate() == null) {
+            throw new IllegalArgumentException("Aggregated queries require a begin date");
+        }
         final String itemName = Objects.requireNonNull(criteria.getItemName()); // we checked non-null before
         final String localAlias = alias != null ? alias : itemName;
         final String tableName = getTableName(localAlias);
         final boolean hasCriteriaName = itemName != null;
 
-        Select select = select().column("\"" + COLUMN_VALUE_NAME_V1 + "\"::field")
-                .column("\"" + TAG_ITEM_NAME + "\"::tag")
-                .fromRaw(null, fullQualifiedTableName(retentionPolicy, tableName, hasCriteriaName));
+        Select select;
+        if (aggregation == null) {
+            select = select().column("\"" + COLUMN_VALUE_NAME_V1 + "\"::field")
+                    .column("\"" + TAG_ITEM_NAME + "\"::tag")
+                    .fromRaw(null, fullQualifiedTableName(retentionPolicy, tableName, hasCriteriaName));
+        } else {
+            select = aggregate(select(), aggregation.function()).as(COLUMN_VALUE_NAME_V1).fromRaw(null,
+                    fullQualifiedTableName(retentionPolicy, tableName, hasCriteriaName));
+        }
 
         Where where = select.where();
 
@@ -78,6 +90,10 @@ public class InfluxDB1FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
                     getOperationSymbol(criteria.getOperator(), InfluxDBVersion.V1), stateToObject(filterState)));
         }
 
+        if (aggregation != null) {
+            return appendAggregation(((Query) select).getCommand(), criteria, aggregation);
+        }
+
         if (criteria.getOrdering() == FilterCriteria.Ordering.DESCENDING) {
             select = select.orderBy(desc());
         } else if (criteria.getOrdering() == FilterCriteria.Ordering.ASCENDING) {
@@ -95,6 +111,37 @@ public class InfluxDB1FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
         return ((Query) select).getCommand();
     }
 
+    private SelectionQueryImpl aggregate(SelectionQueryImpl selection, InfluxDBAggregation.Function function) {
+        return switch (function) {
+            case MEAN -> selection.mean(COLUMN_VALUE_NAME_V1);
+            case MIN -> selection.min(COLUMN_VALUE_NAME_V1);
+            case MAX -> selection.max(COLUMN_VALUE_NAME_V1);
+            case SUM -> selection.sum(COLUMN_VALUE_NAME_V1);
+        };
+    }
+
+    /**
+     * Appends the grouping into time windows, the ordering and the pagination to a built query. Windows without
+     * values are omitted.
+     */
+    private String appendAggregation(String command, FilterCriteria criteria, InfluxDBAggregation aggregation) {
+        StringBuilder query = new StringBuilder(command.endsWith(";") ? command.substring(0, command.length() - 1)
+                : command);
+        query.append(" GROUP BY time(").append(aggregation.window().toMillis()).append("ms) fill(none)");
+        if (criteria.getOrdering() == FilterCriteria.Ordering.DESCENDING) {
+            query.append(" ORDER BY time DESC");
+        } else if (criteria.getOrdering() == FilterCriteria.Ordering.ASCENDING) {
+            query.append(" ORDER BY time ASC");
+        }
+        if (criteria.getPageSize() != Integer.MAX_VALUE) {
+            query.append(" LIMIT ").append(criteria.getPageSize());
+            if (criteria.getPageNumber() != 0) {
+                query.append(" OFFSET ").append((long) criteria.getPageSize() * criteria.getPageNumber());
+            }
+        }
+        return query.append(';').toString();
+    }
+
     private String getTableName(@Nullable String itemName) {
         if (itemName == null) {
             return "/.*/";
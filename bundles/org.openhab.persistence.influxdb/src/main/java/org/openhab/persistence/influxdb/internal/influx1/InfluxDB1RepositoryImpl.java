@@ -35,6 +35,7 @@ import org.influxdb.dto.Query;
 import org.influxdb.dto.QueryResult;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
+import org.openhab.persistence.influxdb.internal.InfluxDBAggregation;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
@@ -165,15 +166,23 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
     }
 
     @Override
-    public List<InfluxRow> query(FilterCriteria filter, String retentionPolicy, @Nullable String alias) {
+    public List<InfluxRow> query(FilterCriteria filter, String retentionPolicy, @Nullable String alias,
+            @Nullable InfluxDBAggregation aggregation) {
         try {
             final InfluxDB currentClient = client;
             if (currentClient != null) {
-                String query = queryCreator.createQuery(filter, retentionPolicy, alias);
+                String query = queryCreator.createQuery(filter, retentionPolicy, alias, aggregation);
                 logger.trace("Query {}", query);
                 Query parsedQuery = new Query(query, configuration.getDatabaseName());
                 List<QueryResult.Result> results = currentClient.query(parsedQuery, TimeUnit.MILLISECONDS).getResults();
-                return convertClientResultToRepository(results);
+                List<InfluxRow> rows = convertClientResultToRepository(results);
+                if (aggregation != null) {
+                    // InfluxQL returns the start of a window, InfluxDB 2 the end
+                    return rows.stream().map(row -> new InfluxRow(
+                            aggregation.windowEnd(row.time(), filter.getEndDate()), row.itemName(), row.value()))
+                            .toList();
+                }
+                return rows;
             } else {
                 throw new InfluxException("API not present");
             }
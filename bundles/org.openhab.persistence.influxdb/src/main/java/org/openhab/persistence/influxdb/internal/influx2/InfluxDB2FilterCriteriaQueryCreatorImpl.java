@@ -24,6 +24,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.types.State;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
+import org.openhab.persistence.influxdb.internal.InfluxDBAggregation;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBVersion;
@@ -49,7 +50,11 @@ public class InfluxDB2FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
     }
 
     @Override
-    public String createQuery(FilterCriteria criteria, String retentionPolicy, @Nullable String alias) {
+    public String createQuery(FilterCriteria criteria, String retentionPolicy, @Nullable String alias,
+            @Nullable InfluxDBAggregation aggregation) {
+        if (aggregation != null && criteria.getBeginDate() == null) {
+            throw new IllegalArgumentException("Aggregated queries require a begin date");
+        }
         Flux flux = Flux.from(retentionPolicy);
 
         RangeFlux range = flux.range();
@@ -86,6 +91,11 @@ public class InfluxDB2FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
             flux = flux.filter(restrictions);
         }
 
+        if (aggregation != null) {
+            flux = flux.aggregateWindow(aggregation.window().toMillis(), ChronoUnit.MILLIS,
+                    aggregation.function().getFluxName()).withCreateEmpty(false);
+        }
+
         flux = applyOrderingAndPageSize(criteria, flux);
 
         return flux.toString();
@@ -30,6 +30,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.influxdb.InfluxDBIOException;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
+import org.openhab.persistence.influxdb.internal.InfluxDBAggregation;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBConstants;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
@@ -213,11 +214,12 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
     }
 
     @Override
-    public List<InfluxRow> query(FilterCriteria filter, String retentionPolicy, @Nullable String alias) {
+    public List<InfluxRow> query(FilterCriteria filter, String retentionPolicy, @Nullable String alias,
+            @Nullable InfluxDBAggregation aggregation) {
         try {
             final QueryApi currentQueryAPI = queryAPI;
             if (currentQueryAPI != null) {
-                String query = queryCreator.createQuery(filter, retentionPolicy, alias);
+                String query = queryCreator.createQuery(filter, retentionPolicy, alias, aggregation);
                 logger.trace("Query {}", query);
                 List<FluxTable> clientResult = currentQueryAPI.query(query);
                 return clientResult.stream().flatMap(this::mapRawResultToHistoric).toList();
@@ -12,17 +12,26 @@
  */
 package org.openhab.persistence.influxdb;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.DATABASE_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.PASSWORD_PARAM;
+import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.QUERY_RESOLUTION_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.RETENTION_POLICY_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.TOKEN_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.URL_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.USER_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.VERSION_PARAM;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -32,8 +41,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.influxdb.internal.InfluxDBAggregation;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBVersion;
@@ -75,6 +90,7 @@ public class InfluxDBPersistenceServiceTest {
             RETENTION_POLICY_PARAM, "default");
 
     private @Mock @NonNullByDefault({}) InfluxDBRepository influxDBRepositoryMock;
+    private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
 
     private final InfluxDBMetadataService influxDBMetadataService = new InfluxDBMetadataService(
             mock(MetadataRegistry.class));
@@ -124,8 +140,100 @@ public class InfluxDBPersistenceServiceTest {
         verify(influxDBRepositoryMock, never()).write(any());
     }
 
+    @Test
+    public void aggregatedQueryReturnsValuesOfQueriedItem() throws ItemNotFoundException {
+        InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
+        when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        when(itemRegistryMock.getItem("number")).thenReturn(ItemTestHelper.createNumberItem("number", 0));
+        InfluxDBAggregation aggregation = new InfluxDBAggregation(InfluxDBAggregation.Function.MEAN,
+                Duration.ofMinutes(10));
+        Instant first = Instant.parse("2025-01-01T00:10:00Z");
+        Instant second = Instant.parse("2025-01-01T00:20:00Z");
+        // aggregated rows are named after the measurement, not the item tag
+        when(influxDBRepositoryMock.query(any(), any(), any(), any())).thenReturn(List.of(
+                new InfluxDBRepository.InfluxRow(first, "measurement", 1.5),
+                new InfluxDBRepository.InfluxRow(second, "measurement", 2.5)));
+
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName("number");
+        filter.setBeginDate(ZonedDateTime.parse("2025-01-01T00:00:00Z"));
+        List<HistoricItem> items = new ArrayList<>();
+        instance.query(filter, null, aggregation).forEach(items::add);
+
+        verify(influxDBRepositoryMock).query(filter, "default", null, aggregation);
+        assertThat(items.stream().map(HistoricItem::getName).toList(), contains("number", "number"));
+        assertThat(items.stream().map(HistoricItem::getState).toList(),
+                contains(new DecimalType(1.5), new DecimalType(2.5)));
+        assertThat(items.stream().map(i -> i.getTimestamp().toInstant()).toList(), contains(first, second));
+    }
+
+    @Test
+    public void aggregatedQueryWithoutBeginDateIsIgnored() {
+        InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
+        when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName("number");
+
+        instance.query(filter, null,
+                new InfluxDBAggregation(InfluxDBAggregation.Function.MEAN, Duration.ofMinutes(10)));
+
+        verify(influxDBRepositoryMock, never()).query(any(), any(), any(), any());
+    }
+
+    @Test
+    public void rangeQueryIsAggregatedWithQueryResolution() throws ItemNotFoundException {
+        Map<String, Object> config = new HashMap<>(VALID_V2_CONFIGURATION);
+        config.put(QUERY_RESOLUTION_PARAM, 100);
+        InfluxDBPersistenceService instance = getService(config);
+        when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        when(itemRegistryMock.getItem("number")).thenReturn(ItemTestHelper.createNumberItem("number", 0));
+        ZonedDateTime begin = ZonedDateTime.parse("2025-01-01T00:00:00Z");
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName("number");
+        filter.setBeginDate(begin);
+        filter.setEndDate(begin.plusHours(1));
+
+        instance.query(filter);
+
+        verify(influxDBRepositoryMock).query(filter, "default", null,
+                new InfluxDBAggregation(InfluxDBAggregation.Function.MEAN, Duration.ofSeconds(36)));
+    }
+
+    @Test
+    public void queryWithoutBeginDateIsNotAggregated() throws ItemNotFoundException {
+        Map<String, Object> config = new HashMap<>(VALID_V2_CONFIGURATION);
+        config.put(QUERY_RESOLUTION_PARAM, 100);
+        InfluxDBPersistenceService instance = getService(config);
+        when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        when(itemRegistryMock.getItem("number")).thenReturn(ItemTestHelper.createNumberItem("number", 0));
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName("number");
+
+        instance.query(filter);
+
+        verify(influxDBRepositoryMock).query(filter, "default", null, null);
+    }
+
+    @Test
+    public void rangeQueryOfNonNumericItemIsNotAggregated() throws ItemNotFoundException {
+        Map<String, Object> config = new HashMap<>(VALID_V2_CONFIGURATION);
+        config.put(QUERY_RESOLUTION_PARAM, 100);
+        InfluxDBPersistenceService instance = getService(config);
+        when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        when(itemRegistryMock.getItem("switch")).thenReturn(new SwitchItem("switch"));
+        ZonedDateTime begin = ZonedDateTime.parse("2025-01-01T00:00:00Z");
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName("switch");
+        filter.setBeginDate(begin);
+        filter.setEndDate(begin.plusHours(1));
+
+        instance.query(filter);
+
+        verify(influxDBRepositoryMock).query(filter, "default", null, null);
+    }
+
     private InfluxDBPersistenceService getService(Map<String, Object> config) {
-        return new InfluxDBPersistenceService(mock(ItemRegistry.class), influxDBMetadataService, config) {
+        return new InfluxDBPersistenceService(itemRegistryMock, influxDBMetadataService, config) {
             @Override
             protected InfluxDBRepository createInfluxDBRepository() {
                 return influxDBRepositoryMock;
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link InfluxDBAggregation}.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBAggregationTest {
+
+    private static final ZonedDateTime BEGIN = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final ZonedDateTime END = BEGIN.plusHours(1);
+
+    @Test
+    public void windowEndIsStartPlusWindow() {
+        InfluxDBAggregation aggregation = new InfluxDBAggregation(InfluxDBAggregation.Function.MEAN,
+                Duration.ofMinutes(10));
+
+        assertThat(aggregation.windowEnd(BEGIN.toInstant(), END), is(BEGIN.plusMinutes(10).toInstant()));
+        assertThat(aggregation.windowEnd(BEGIN.plusMinutes(50).toInstant(), null), is(END.toInstant()));
+    }
+
+    @Test
+    public void lastWindowEndsAtEndOfRange() {
+        InfluxDBAggregation aggregation = new InfluxDBAggregation(InfluxDBAggregation.Function.MAX,
+                Duration.ofMinutes(10));
+        Instant lastWindowStart = END.minusMinutes(5).toInstant();
+
+        assertThat(aggregation.windowEnd(lastWindowStart, END), is(END.toInstant()));
+    }
+
+    @Test
+    public void resolutionDividesRange() {
+        assertThat(InfluxDBAggregation.forResolution(InfluxDBAggregation.Function.MIN, BEGIN, END, 60).window(),
+                is(Duration.ofMinutes(1)));
+        // rounded up, so there are never more values than requested
+        assertThat(InfluxDBAggregation.forResolution(InfluxDBAggregation.Function.MIN, BEGIN, END, 7).window(),
+                is(Duration.ofMillis(514286)));
+        assertThat(InfluxDBAggregation.forResolution(InfluxDBAggregation.Function.SUM, BEGIN, BEGIN, 10).window(),
+                is(Duration.ofMillis(1)));
+    }
+
+    @Test
+    public void windowMustNotBeEmpty() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new InfluxDBAggregation(InfluxDBAggregation.Function.MEAN, Duration.ZERO));
+    }
+}
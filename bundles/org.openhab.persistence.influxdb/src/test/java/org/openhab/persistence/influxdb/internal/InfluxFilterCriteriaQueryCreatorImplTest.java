@@ -12,10 +12,13 @@
  */
 package org.openhab.persistence.influxdb.internal;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -186,6 +189,39 @@ public class InfluxFilterCriteriaQueryCreatorImplTest {
                 \t|> last()"""));
     }
 
+    @Test
+    public void testAggregation() {
+        FilterCriteria criteria = createBaseCriteria();
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime yesterday = now.minus(1, ChronoUnit.DAYS);
+        criteria.setBeginDate(yesterday);
+        criteria.setEndDate(now);
+        InfluxDBAggregation aggregation = InfluxDBAggregation.forResolution(InfluxDBAggregation.Function.MEAN,
+                yesterday, now, 1440);
+
+        String queryV1 = instanceV1.createQuery(criteria, RETENTION_POLICY, null, aggregation);
+        String expectedQueryV1 = String.format(
+                "SELECT MEAN(value) AS value FROM \"origin\".\"sampleItem\" WHERE time >= '%s' AND time <= '%s' GROUP BY time(60000ms) fill(none) ORDER BY time DESC;",
+                yesterday.toInstant(), now.toInstant());
+        assertThat(queryV1, equalTo(expectedQueryV1));
+
+        String queryV2 = instanceV2.createQuery(criteria, RETENTION_POLICY, null, aggregation);
+        assertThat(queryV2, containsString("|> aggregateWindow(every:60000ms, fn:mean"));
+        assertThat(queryV2, containsString("createEmpty:false"));
+    }
+
+    @Test
+    public void testAggregationWithoutBeginDateIsRejected() {
+        FilterCriteria criteria = createBaseCriteria();
+        InfluxDBAggregation aggregation = new InfluxDBAggregation(InfluxDBAggregation.Function.MEAN,
+                Duration.ofMinutes(1));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> instanceV1.createQuery(criteria, RETENTION_POLICY, null, aggregation));
+        assertThrows(IllegalArgumentException.class,
+                () -> instanceV2.createQuery(criteria, RETENTION_POLICY, null, aggregation));
+    }
+
     private FilterCriteria createBaseCriteria() {
         FilterCriteria criteria = new FilterCriteria();
         criteria.setItemName(ITEM_NAME);
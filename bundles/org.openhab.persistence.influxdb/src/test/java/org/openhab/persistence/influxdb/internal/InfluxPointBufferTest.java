@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxPointBufferTest {
+    private static final Instant TIME = Instant.parse("2024-05-01T10:00:00.123456789Z");
+
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+
+    @Test
+    public void pointsAreDroppedWithoutSpillFile() {
+        InfluxPointBuffer buffer = new InfluxPointBuffer(2, null, 0);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(point(i));
+        }
+
+        assertThat(buffer.size(), is(2));
+        assertThat(buffer.getDroppedPoints(), is(3L));
+        assertThat(values(buffer.poll(10)), contains(0L, 1L));
+        assertThat(buffer.isEmpty(), is(true));
+    }
+
+    @Test
+    public void pointsAreWrittenInOrderOfArrival() {
+        Path spillFile = tempDir.resolve("buffer.bin");
+        InfluxPointBuffer buffer = new InfluxPointBuffer(2, spillFile, 1024 * 1024);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(point(i));
+        }
+
+        assertThat(buffer.size(), is(5));
+        assertThat(buffer.getSpilledPoints(), is(3));
+        assertThat(values(buffer.poll(2)), contains(0L, 1L));
+
+        // memory has space again, but the point is spilled as long as older points are in the spill file
+        buffer.add(point(5));
+        assertThat(buffer.getSpilledPoints(), is(4));
+        assertThat(values(buffer.poll(3)), contains(2L, 3L, 4L));
+        assertThat(values(buffer.poll(3)), contains(5L));
+        assertThat(Files.exists(spillFile), is(false));
+        assertThat(buffer.getDroppedPoints(), is(0L));
+    }
+
+    @Test
+    public void requeuedPointsAreWrittenFirst() {
+        InfluxPointBuffer buffer = new InfluxPointBuffer(3, tempDir.resolve("buffer.bin"), 1024 * 1024);
+        for (int i = 0; i < 3; i++) {
+            buffer.add(point(i));
+        }
+        List<InfluxPoint> batch = buffer.poll(2);
+        buffer.add(point(3));
+        buffer.requeue(batch);
+
+        // requeued points are kept in memory even if this exceeds the capacity
+        assertThat(buffer.getSpilledPoints(), is(0));
+        assertThat(values(buffer.poll(10)), contains(0L, 1L, 2L, 3L));
+    }
+
+    @Test
+    public void spillFileIsCompactedAfterPartialReplay() throws IOException {
+        Path spillFile = tempDir.resolve("buffer.bin");
+        InfluxPointBuffer buffer = new InfluxPointBuffer(1, spillFile, 1024 * 1024);
+        for (int i = 0; i < 10; i++) {
+            buffer.add(point(i));
+        }
+        long recordSize = Files.size(spillFile) / 9;
+
+        assertThat(values(buffer.poll(5)), contains(0L, 1L, 2L, 3L, 4L));
+        assertThat(Files.size(spillFile), is(9 * recordSize));
+
+        // more than half of the file has been replayed
+        assertThat(values(buffer.poll(1)), contains(5L));
+        assertThat(Files.size(spillFile), is(4 * recordSize));
+        assertThat(values(buffer.poll(10)), contains(6L, 7L, 8L, 9L));
+    }
+
+    @Test
+    public void spillFileSizeIncludesReplayedPoints() throws IOException {
+        Path spillFile = tempDir.resolve("buffer.bin");
+        InfluxPointBuffer probe = new InfluxPointBuffer(0, spillFile, 1024 * 1024);
+        probe.add(point(0));
+        long recordSize = Files.size(spillFile);
+        probe.poll(1);
+
+        InfluxPointBuffer buffer = new InfluxPointBuffer(1, spillFile, 5 * recordSize);
+        for (int i = 0; i < 6; i++) {
+            buffer.add(point(i));
+        }
+        assertThat(buffer.getSpilledPoints(), is(5));
+        assertThat(values(buffer.poll(3)), contains(0L, 1L, 2L));
+
+        // the replayed points are discarded to make space for new ones
+        buffer.add(point(6));
+        buffer.add(point(7));
+        assertThat(Files.size(spillFile), is(5 * recordSize));
+        assertThat(buffer.getDroppedPoints(), is(0L));
+        assertThat(values(buffer.poll(10)), contains(3L, 4L, 5L, 6L, 7L));
+    }
+
+    @Test
+    public void spillAllKeepsOrderAfterPartialReplay() {
+        Path spillFile = tempDir.resolve("buffer.bin");
+        InfluxPointBuffer buffer = new InfluxPointBuffer(2, spillFile, 1024 * 1024);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(point(i));
+        }
+        buffer.requeue(buffer.poll(3));
+        buffer.spillAll();
+
+        InfluxPointBuffer restarted = new InfluxPointBuffer(2, spillFile, 1024 * 1024);
+        assertThat(values(restarted.poll(10)), contains(0L, 1L, 2L, 3L, 4L));
+    }
+
+    @Test
+    public void spilledPointsSurviveRestart() {
+        Path spillFile = tempDir.resolve("buffer.bin");
+        InfluxPointBuffer buffer = new InfluxPointBuffer(10, spillFile, 1024 * 1024);
+        buffer.add(InfluxPoint.newBuilder("decimal").withTime(TIME).withValue(new BigDecimal("21.5"))
+                .withTag("item", "temperature").withTag("floor", "ground").build());
+        buffer.add(InfluxPoint.newBuilder("string").withTime(TIME).withValue("ON ü").build());
+        buffer.add(InfluxPoint.newBuilder("integer").withTime(TIME).withValue(1).build());
+        buffer.spillAll();
+
+        InfluxPointBuffer restarted = new InfluxPointBuffer(10, spillFile, 1024 * 1024);
+        assertThat(restarted.size(), is(3));
+        List<InfluxPoint> points = restarted.poll(10);
+
+        assertThat(points, hasSize(3));
+        assertThat(points.get(0).getMeasurementName(), is("decimal"));
+        assertThat(points.get(0).getTime(), is(TIME));
+        assertThat(points.get(0).getValue(), is(new BigDecimal("21.5")));
+        assertThat(points.get(0).getTags(), is(Map.of("item", "temperature", "floor", "ground")));
+        assertThat(points.get(1).getValue(), is("ON ü"));
+        assertThat(points.get(2).getValue(), is(1));
+        assertThat(restarted.isEmpty(), is(true));
+    }
+
+    @Test
+    public void incompleteLastRecordIsDiscardedOnRestart() throws IOException {
+        Path spillFile = tempDir.resolve("buffer.bin");
+        InfluxPointBuffer buffer = new InfluxPointBuffer(0, spillFile, 1024 * 1024);
+        for (int i = 0; i < 3; i++) {
+            buffer.add(point(i));
+        }
+        buffer.spillAll();
+        long recordSize = Files.size(spillFile) / 3;
+        try (FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.WRITE)) {
+            channel.truncate(3 * recordSize - 5);
+        }
+
+        InfluxPointBuffer restarted = new InfluxPointBuffer(0, spillFile, 1024 * 1024);
+        assertThat(restarted.getSpilledPoints(), is(2));
+        assertThat(Files.size(spillFile), is(2 * recordSize));
+        restarted.add(point(3));
+        assertThat(values(restarted.poll(10)), contains(0L, 1L, 3L));
+    }
+
+    @Test
+    public void pointsAreDroppedWhenSpillFileIsFull() {
+        InfluxPointBuffer buffer = new InfluxPointBuffer(1, tempDir.resolve("buffer.bin"), 100);
+        for (int i = 0; i < 10; i++) {
+            buffer.add(point(i));
+        }
+
+        assertThat(buffer.getSpilledPoints(), is(greaterThan(0)));
+        assertThat(buffer.getSpilledPoints(), is(lessThan(9)));
+        assertThat(buffer.getDroppedPoints(), is(9L - buffer.getSpilledPoints()));
+    }
+
+    private static InfluxPoint point(long value) {
+        return InfluxPoint.newBuilder("measurement").withTime(TIME).withValue(value).build();
+    }
+
+    private static List<Object> values(List<InfluxPoint> points) {
+        return points.stream().map(InfluxPoint::getValue).toList();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link InMemoryHistoricItem} is a value returned by the {@link InMemoryPersistenceService}.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class InMemoryHistoricItem implements HistoricItem {
+    private final String name;
+    private final ZonedDateTime timestamp;
+    private final State state;
+
+    public InMemoryHistoricItem(String name, ZonedDateTime timestamp, State state) {
+        this.name = name;
+        this.timestamp = timestamp;
+        this.state = state;
+    }
+
+    @Override
+    public ZonedDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public State getState() {
+        return state;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Creates the {@link PersistenceItemInfo} of an item.
+     */
+    public static PersistenceItemInfo itemInfo(String name, int count, ZonedDateTime earliest, ZonedDateTime latest) {
+        return new PersistenceItemInfo() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public @Nullable Integer getCount() {
+                return count;
+            }
+
+            @Override
+            public @Nullable Date getEarliest() {
+                return Date.from(earliest.toInstant());
+            }
+
+            @Override
+            public @Nullable Date getLatest() {
+                return Date.from(latest.toInstant());
+            }
+        };
+    }
+}
@@ -12,20 +12,14 @@
  */
 package org.openhab.persistence.inmemory.internal;
 
-import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.Comparator;
-import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -66,11 +60,15 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     protected static final String CONFIG_URI = "persistence:inmemory";
     private final String MAX_ENTRIES_CONFIG = "maxEntries";
     private final long MAX_ENTRIES_DEFAULT = 512;
+    private final String STORAGE_CONFIG = "storage";
+    private final String STORAGE_DEFAULT = "default";
+    private final String STORAGE_NUMBER = "number";
 
     private final Logger logger = LoggerFactory.getLogger(InMemoryPersistenceService.class);
 
-    private final Map<String, PersistItem> persistMap = new ConcurrentHashMap<>();
+    private final Map<String, ItemStorage> persistMap = new ConcurrentHashMap<>();
     private long maxEntries = MAX_ENTRIES_DEFAULT;
+    private boolean numberStorage = false;
 
     @Activate
     public void activate(Map<String, Object> config) {
@@ -81,18 +79,10 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     @Modified
     public void modified(Map<String, Object> config) {
         maxEntries = ConfigParser.valueAsOrElse(config.get(MAX_ENTRIES_CONFIG), Long.class, MAX_ENTRIES_DEFAULT);
+        numberStorage = STORAGE_NUMBER
+                .equals(ConfigParser.valueAsOrElse(config.get(STORAGE_CONFIG), String.class, STORAGE_DEFAULT));
 
-        persistMap.values().forEach(persistItem -> {
-            Lock lock = persistItem.lock();
-            lock.lock();
-            try {
-                while (persistItem.database().size() > maxEntries) {
-                    persistItem.database().pollFirst();
-                }
-            } finally {
-                lock.unlock();
-            }
-        });
+        persistMap.values().forEach(storage -> storage.trim(maxEntries));
     }
 
     @Deactivate
@@ -112,7 +102,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return persistMap.entrySet().stream().map(this::toItemInfo).collect(Collectors.toSet());
+        Set<PersistenceItemInfo> itemInfo = new HashSet<>();
+        persistMap.forEach((name, storage) -> {
+            PersistenceItemInfo info = storage.getItemInfo(name);
+            if (info != null) {
+                itemInfo.add(info);
+            }
+        });
+        return itemInfo;
     }
 
     @Override
@@ -143,19 +140,12 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return false;
         }
 
-        PersistItem persistItem = persistMap.get(itemName);
-        if (persistItem == null) {
+        ItemStorage storage = persistMap.get(itemName);
+        if (storage == null) {
             return false;
         }
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-        try {
-            List<PersistEntry> toRemove = persistItem.database().stream().filter(e -> applies(e, filter)).toList();
-            toRemove.forEach(persistItem.database()::remove);
-        } finally {
-            lock.unlock();
-        }
+        storage.remove(filter);
         return true;
     }
 
@@ -166,24 +156,12 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return List.of();
         }
 
-        PersistItem persistItem = persistMap.get(itemName);
-        if (persistItem == null) {
+        ItemStorage storage = persistMap.get(itemName);
+        if (storage == null) {
             return List.of();
         }
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-
-        Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
-                ? Comparator.comparing(PersistEntry::timestamp)
-                : Comparator.comparing(PersistEntry::timestamp).reversed();
-
-        try {
-            return persistItem.database().stream().filter(e -> applies(e, filter)).sorted(comparator)
-                    .map(e -> toHistoricItem(itemName, e)).toList();
-        } finally {
-            lock.unlock();
-        }
+        return storage.query(itemName, filter);
     }
 
     @Override
@@ -192,130 +170,37 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         return List.of(PersistenceStrategy.Globals.FORECAST);
     }
 
-    private PersistenceItemInfo toItemInfo(Map.Entry<String, PersistItem> itemEntry) {
-        Lock lock = itemEntry.getValue().lock();
-        lock.lock();
-        try {
-            String name = itemEntry.getKey();
-            Integer count = itemEntry.getValue().database().size();
-            Instant earliest = itemEntry.getValue().database().first().timestamp().toInstant();
-            Instant latest = itemEntry.getValue().database.last().timestamp.toInstant();
-            return new PersistenceItemInfo() {
-
-                @Override
-                public String getName() {
-                    return name;
-                }
-
-                @Override
-                public @Nullable Integer getCount() {
-                    return count;
-                }
-
-                @Override
-                public @Nullable Date getEarliest() {
-                    return Date.from(earliest);
-                }
-
-                @Override
-                public @Nullable Date getLatest() {
-                    return Date.from(latest);
-                }
-            };
-        } finally {
-            lock.unlock();
-        }
-    }
-
-    private HistoricItem toHistoricItem(String itemName, PersistEntry entry) {
-        return new HistoricItem() {
-            @Override
-            public ZonedDateTime getTimestamp() {
-                return entry.timestamp();
-            }
-
-            @Override
-            public State getState() {
-                return entry.state();
-            }
-
-            @Override
-            public String getName() {
-                return itemName;
-            }
-        };
-    }
-
     private void internalStore(String itemName, ZonedDateTime timestamp, State state) {
         if (state instanceof UnDefType) {
             return;
         }
 
-        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName,
-                k -> new PersistItem(new TreeSet<>(Comparator.comparing(PersistEntry::timestamp)),
-                        new ReentrantLock())));
-
-        Lock lock = persistItem.lock();
-        lock.lock();
-        try {
-            persistItem.database().add(new PersistEntry(timestamp, state));
-
-            while (persistItem.database.size() > maxEntries) {
-                persistItem.database().pollFirst();
-            }
-        } finally {
-            lock.unlock();
+        ItemStorage storage = Objects
+                .requireNonNull(persistMap.computeIfAbsent(itemName, k -> createStorage(timestamp, state)));
+        while (!storage.store(timestamp, state, maxEntries)) {
+            // the state is not supported by the number storage, move all values into an object storage
+            storage = Objects.requireNonNull(persistMap.compute(itemName, (k, current) -> {
+                if (current == null) {
+                    return new ObjectItemStorage();
+                } else if (current instanceof ObjectItemStorage) {
+                    return current;
+                }
+                logger.debug("Item '{}' stores a state that is not numeric, moving values to object storage.",
+                        itemName);
+                ObjectItemStorage objectStorage = new ObjectItemStorage();
+                current.drain(itemName).forEach(h -> objectStorage.store(h.getTimestamp(), h.getState(), 0));
+                return objectStorage;
+            }));
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private boolean applies(PersistEntry entry, FilterCriteria filter) {
-        ZonedDateTime beginDate = filter.getBeginDate();
-        if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
-            return false;
-        }
-        ZonedDateTime endDate = filter.getEndDate();
-        if (endDate != null && endDate.isBefore(entry.timestamp())) {
-            return false;
-        }
-
-        State refState = filter.getState();
-        FilterCriteria.Operator operator = filter.getOperator();
-        if (refState == null) {
-            // no state filter
-            return true;
-        }
-
-        if (operator == FilterCriteria.Operator.EQ) {
-            return entry.state().equals(refState);
-        }
-
-        if (operator == FilterCriteria.Operator.NEQ) {
-            return !entry.state().equals(refState);
-        }
-
-        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
-            if (operator == FilterCriteria.Operator.GT) {
-                return comparableState.compareTo(refState) > 0;
-            }
-            if (operator == FilterCriteria.Operator.GTE) {
-                return comparableState.compareTo(refState) >= 0;
-            }
-            if (operator == FilterCriteria.Operator.LT) {
-                return comparableState.compareTo(refState) < 0;
+    private ItemStorage createStorage(ZonedDateTime timestamp, State state) {
+        if (numberStorage) {
+            ItemStorage storage = NumberRingBufferStorage.create(timestamp, state, maxEntries);
+            if (storage != null) {
+                return storage;
             }
-            if (operator == FilterCriteria.Operator.LTE) {
-                return comparableState.compareTo(refState) <= 0;
-            }
-        } else {
-            logger.warn("Using operator {} but state {} is not comparable!", operator, refState);
         }
-        return true;
-    }
-
-    private record PersistEntry(ZonedDateTime timestamp, State state) {
-    }
-
-    private record PersistItem(TreeSet<PersistEntry> database, Lock lock) {
+        return new ObjectItemStorage();
     }
 }
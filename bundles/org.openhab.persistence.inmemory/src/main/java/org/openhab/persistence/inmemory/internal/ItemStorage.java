@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link ItemStorage} holds the persisted values of a single item. Implementations are thread-safe.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public interface ItemStorage {
+
+    /**
+     * Stores a value. If a value with the same timestamp already exists, it is kept.
+     *
+     * @param timestamp the timestamp of the value
+     * @param state the value
+     * @param maxEntries the maximum number of values to keep, the oldest values are removed first (0 = infinite)
+     * @return false if the state is not supported by this storage or the storage has been drained
+     */
+    boolean store(ZonedDateTime timestamp, State state, long maxEntries);
+
+    /**
+     * Removes the oldest values until at most the given number of values is left.
+     *
+     * @param maxEntries the maximum number of values to keep (0 = infinite)
+     */
+    void trim(long maxEntries);
+
+    /**
+     * Removes all values matching the filter.
+     */
+    void remove(FilterCriteria filter);
+
+    /**
+     * Returns all values matching the filter, in the order requested by the filter.
+     *
+     * @param name the name the returned items are reported with
+     */
+    List<HistoricItem> query(String name, FilterCriteria filter);
+
+    /**
+     * Returns information about the stored values, or null if the storage is empty.
+     */
+    @Nullable
+    PersistenceItemInfo getItemInfo(String name);
+
+    /**
+     * Returns all values in ascending order and rejects all later calls to {@link #store}, so the values can be
+     * moved into another storage.
+     */
+    List<HistoricItem> drain(String name);
+}
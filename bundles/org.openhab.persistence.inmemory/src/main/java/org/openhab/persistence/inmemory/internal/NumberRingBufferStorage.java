@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link NumberRingBufferStorage} stores numeric values in a ring buffer of primitive timestamps and values,
+ * sorted by timestamp.
+ *
+ * Values are either {@link DecimalType}s or {@link QuantityType}s, which are converted to the unit of the first stored
+ * value. Range lookups use binary search, and reads try an optimistic read of the buffer first, so queries do not
+ * block each other or a concurrent writer.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class NumberRingBufferStorage implements ItemStorage {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final StampedLock lock = new StampedLock();
+    private final @Nullable Unit<? extends Quantity<?>> unit;
+    private final ZoneId zone;
+
+    // timestamps in nanoseconds since the epoch, the oldest value is at head
+    private long[] timestamps;
+    private double[] values;
+    private int head = 0;
+    private int size = 0;
+    private boolean drained = false;
+
+    private NumberRingBufferStorage(@Nullable Unit<? extends Quantity<?>> unit, ZoneId zone, long maxEntries) {
+        this.unit = unit;
+        this.zone = zone;
+        int capacity = maxEntries > 0 ? (int) Math.min(INITIAL_CAPACITY, maxEntries) : INITIAL_CAPACITY;
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    /**
+     * Creates a storage for the type of the given value.
+     *
+     * @return the storage, or null if the value cannot be stored in a primitive storage
+     */
+    public static @Nullable NumberRingBufferStorage create(ZonedDateTime timestamp, State state, long maxEntries) {
+        if (state instanceof QuantityType<?> quantity) {
+            return new NumberRingBufferStorage(quantity.getUnit(), timestamp.getZone(), maxEntries);
+        } else if (state.getClass() == DecimalType.class) {
+            return new NumberRingBufferStorage(null, timestamp.getZone(), maxEntries);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean store(ZonedDateTime timestamp, State state, long maxEntries) {
+        Unit<? extends Quantity<?>> unit = this.unit;
+        double value;
+        if (unit == null) {
+            if (state.getClass() != DecimalType.class) {
+                return false;
+            }
+            value = ((DecimalType) state).doubleValue();
+        } else {
+            QuantityType<?> quantity = state instanceof QuantityType<?> q ? q.toUnit(unit) : null;
+            if (quantity == null) {
+                return false;
+            }
+            value = quantity.doubleValue();
+        }
+        long time;
+        try {
+            time = toNanos(timestamp);
+        } catch (ArithmeticException e) {
+            // outside of the range of years 1677 to 2262
+            return false;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if (drained) {
+                return false;
+            }
+            int index = lowerBound(timestamps, head, size, time);
+            if (index < size && timestamps[physical(index)] == time) {
+                // keep the existing value, like a sorted set does
+                return true;
+            }
+            if (size == timestamps.length) {
+                if (maxEntries > 0 && size >= maxEntries) {
+                    if (index == 0) {
+                        // older than all values, it would be removed right away
+                        return true;
+                    }
+                    removeFirst();
+                    index--;
+                } else {
+                    long newCapacity = (long) timestamps.length * 2;
+                    resize((int) Math.min(maxEntries > 0 ? Math.min(newCapacity, maxEntries) : newCapacity,
+                            Integer.MAX_VALUE - 8));
+                }
+            }
+            insert(index, time, value);
+            trimBuffer(maxEntries);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void trim(long maxEntries) {
+        long stamp = lock.writeLock();
+        try {
+            trimBuffer(maxEntries);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void remove(FilterCriteria filter) {
+        long stamp = lock.writeLock();
+        try {
+            int from = lowerBound(timestamps, head, size, beginOf(filter));
+            int to = upperBound(timestamps, head, size, endOf(filter));
+            boolean stateFilter = filter.getState() != null;
+            int target = from;
+            for (int index = from; index < size; index++) {
+                int source = physical(index);
+                if (index < to && (!stateFilter || StateFilter.appliesState(toState(values[source]), filter))) {
+                    continue;
+                }
+                int destination = physical(target++);
+                timestamps[destination] = timestamps[source];
+                values[destination] = values[source];
+            }
+            size = target;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<HistoricItem> query(String name, FilterCriteria filter) {
+        long begin = beginOf(filter);
+        long end = endOf(filter);
+
+        Slice slice = null;
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            slice = copyRange(begin, end);
+            if (!lock.validate(stamp)) {
+                slice = null;
+            }
+        }
+        if (slice == null) {
+            stamp = lock.readLock();
+            try {
+                slice = copyRange(begin, end);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        boolean ascending = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING;
+        boolean stateFilter = filter.getState() != null;
+        int count = slice.timestamps.length;
+        List<HistoricItem> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = ascending ? i : count - 1 - i;
+            State state = toState(slice.values[index]);
+            if (!stateFilter || StateFilter.appliesState(state, filter)) {
+                result.add(new InMemoryHistoricItem(name, toZonedDateTime(slice.timestamps[index]), state));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public @Nullable PersistenceItemInfo getItemInfo(String name) {
+        long stamp = lock.readLock();
+        try {
+            if (size == 0) {
+                return null;
+            }
+            return InMemoryHistoricItem.itemInfo(name, size, toZonedDateTime(timestamps[physical(0)]),
+                    toZonedDateTime(timestamps[physical(size - 1)]));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<HistoricItem> drain(String name) {
+        long stamp = lock.writeLock();
+        try {
+            drained = true;
+            List<HistoricItem> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int index = physical(i);
+                result.add(new InMemoryHistoricItem(name, toZonedDateTime(timestamps[index]), toState(values[index])));
+            }
+            return result;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies the values within the given time range. This is also called without holding the lock for an optimistic
+     * read, so it only works on local copies of the fields and never fails on inconsistent data. The result of an
+     * optimistic read must be discarded if the stamp is not valid anymore.
+     */
+    private Slice copyRange(long begin, long end) {
+        long[] timestamps = this.timestamps;
+        double[] values = this.values;
+        int head = this.head;
+        int size = this.size;
+        int capacity = timestamps.length;
+        if (values.length != capacity || head < 0 || head >= capacity || size < 0 || size > capacity) {
+            return Slice.EMPTY;
+        }
+        int from = lowerBound(timestamps, head, size, begin);
+        int to = upperBound(timestamps, head, size, end);
+        if (from >= to) {
+            return Slice.EMPTY;
+        }
+        int count = to - from;
+        long[] sliceTimestamps = new long[count];
+        double[] sliceValues = new double[count];
+        int start = (head + from) % capacity;
+        int firstPart = Math.min(count, capacity - start);
+        System.arraycopy(timestamps, start, sliceTimestamps, 0, firstPart);
+        System.arraycopy(values, start, sliceValues, 0, firstPart);
+        System.arraycopy(timestamps, 0, sliceTimestamps, firstPart, count - firstPart);
+        System.arraycopy(values, 0, sliceValues, firstPart, count - firstPart);
+        return new Slice(sliceTimestamps, sliceValues);
+    }
+
+    /**
+     * Returns the logical index of the first value with a timestamp greater than or equal to the given time.
+     */
+    private static int lowerBound(long[] timestamps, int head, int size, long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[(head + mid) % timestamps.length] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the logical index of the first value with a timestamp greater than the given time.
+     */
+    private static int upperBound(long[] timestamps, int head, int size, long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[(head + mid) % timestamps.length] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int physical(int index) {
+        int physical = head + index;
+        return physical < timestamps.length ? physical : physical - timestamps.length;
+    }
+
+    private void insert(int index, long time, double value) {
+        if (index < size / 2) {
+            // shift the older values one position to the left
+            head = head == 0 ? timestamps.length - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                int destination = physical(i);
+                int source = physical(i + 1);
+                timestamps[destination] = timestamps[source];
+                values[destination] = values[source];
+            }
+        } else {
+            // shift the newer values one position to the right
+            for (int i = size; i > index; i--) {
+                int destination = physical(i);
+                int source = physical(i - 1);
+                timestamps[destination] = timestamps[source];
+                values[destination] = values[source];
+            }
+        }
+        int position = physical(index);
+        timestamps[position] = time;
+        values[position] = value;
+        size++;
+    }
+
+    private void removeFirst() {
+        head = physical(1);
+        size--;
+    }
+
+    private void trimBuffer(long maxEntries) {
+        if (maxEntries > 0) {
+            while (size > maxEntries) {
+                removeFirst();
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] newTimestamps = new long[capacity];
+        double[] newValues = new double[capacity];
+        int firstPart = Math.min(size, timestamps.length - head);
+        System.arraycopy(timestamps, head, newTimestamps, 0, firstPart);
+        System.arraycopy(values, head, newValues, 0, firstPart);
+        System.arraycopy(timestamps, 0, newTimestamps, firstPart, size - firstPart);
+        System.arraycopy(values, 0, newValues, firstPart, size - firstPart);
+        timestamps = newTimestamps;
+        values = newValues;
+        head = 0;
+    }
+
+    private State toState(double value) {
+        Unit<? extends Quantity<?>> unit = this.unit;
+        return unit == null ? new DecimalType(value) : new QuantityType<>(value, unit);
+    }
+
+    private ZonedDateTime toZonedDateTime(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND))
+                .atZone(zone);
+    }
+
+    private static long toNanos(ZonedDateTime timestamp) {
+        Instant instant = timestamp.toInstant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    private static long beginOf(FilterCriteria filter) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        return beginDate == null ? Long.MIN_VALUE : saturatedNanos(beginDate);
+    }
+
+    private static long endOf(FilterCriteria filter) {
+        ZonedDateTime endDate = filter.getEndDate();
+        return endDate == null ? Long.MAX_VALUE : saturatedNanos(endDate);
+    }
+
+    private static long saturatedNanos(ZonedDateTime timestamp) {
+        try {
+            return toNanos(timestamp);
+        } catch (ArithmeticException e) {
+            return timestamp.toInstant().getEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private record Slice(long[] timestamps, double[] values) {
+        static final Slice EMPTY = new Slice(new long[0], new double[0]);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link ObjectItemStorage} stores values of any type in a sorted set.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class ObjectItemStorage implements ItemStorage {
+    private final TreeSet<PersistEntry> database = new TreeSet<>(Comparator.comparing(PersistEntry::timestamp));
+    private final Lock lock = new ReentrantLock();
+    private boolean drained = false;
+
+    @Override
+    public boolean store(ZonedDateTime timestamp, State state, long maxEntries) {
+        lock.lock();
+        try {
+            if (drained) {
+                return false;
+            }
+            database.add(new PersistEntry(timestamp, state));
+            trimDatabase(maxEntries);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void trim(long maxEntries) {
+        lock.lock();
+        try {
+            trimDatabase(maxEntries);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(FilterCriteria filter) {
+        lock.lock();
+        try {
+            database.removeIf(e -> StateFilter.applies(e.timestamp(), e.state(), filter));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<HistoricItem> query(String name, FilterCriteria filter) {
+        lock.lock();
+        try {
+            NavigableSet<PersistEntry> entries = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING ? database
+                    : database.descendingSet();
+            return entries.stream().filter(e -> StateFilter.applies(e.timestamp(), e.state(), filter))
+                    .<HistoricItem> map(e -> new InMemoryHistoricItem(name, e.timestamp(), e.state())).toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable PersistenceItemInfo getItemInfo(String name) {
+        lock.lock();
+        try {
+            if (database.isEmpty()) {
+                return null;
+            }
+            return InMemoryHistoricItem.itemInfo(name, database.size(), database.first().timestamp(),
+                    database.last().timestamp());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<HistoricItem> drain(String name) {
+        lock.lock();
+        try {
+            drained = true;
+            return database.stream()
+                    .<HistoricItem> map(e -> new InMemoryHistoricItem(name, e.timestamp(), e.state())).toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void trimDatabase(long maxEntries) {
+        if (maxEntries > 0) {
+            while (database.size() > maxEntries) {
+                database.pollFirst();
+            }
+        }
+    }
+
+    private record PersistEntry(ZonedDateTime timestamp, State state) {
+    }
+}
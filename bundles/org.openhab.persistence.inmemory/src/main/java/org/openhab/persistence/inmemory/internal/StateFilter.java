@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link StateFilter} evaluates the conditions of a {@link FilterCriteria} against stored values.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public final class StateFilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StateFilter.class);
+
+    private StateFilter() {
+        // prevent instantiation
+    }
+
+    /**
+     * Checks if a value matches the time range and the state condition of the filter.
+     */
+    public static boolean applies(ZonedDateTime timestamp, State state, FilterCriteria filter) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        if (beginDate != null && beginDate.isAfter(timestamp)) {
+            return false;
+        }
+        ZonedDateTime endDate = filter.getEndDate();
+        if (endDate != null && endDate.isBefore(timestamp)) {
+            return false;
+        }
+        return appliesState(state, filter);
+    }
+
+    /**
+     * Checks if a value matches the state condition of the filter, ignoring the time range.
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean appliesState(State state, FilterCriteria filter) {
+        State refState = filter.getState();
+        FilterCriteria.Operator operator = filter.getOperator();
+        if (refState == null) {
+            // no state filter
+            return true;
+        }
+
+        if (operator == FilterCriteria.Operator.EQ) {
+            return state.equals(refState);
+        }
+
+        if (operator == FilterCriteria.Operator.NEQ) {
+            return !state.equals(refState);
+        }
+
+        if (state instanceof Comparable comparableState && state.getClass().equals(refState.getClass())) {
+            if (operator == FilterCriteria.Operator.GT) {
+                return comparableState.compareTo(refState) > 0;
+            }
+            if (operator == FilterCriteria.Operator.GTE) {
+                return comparableState.compareTo(refState) >= 0;
+            }
+            if (operator == FilterCriteria.Operator.LT) {
+                return comparableState.compareTo(refState) < 0;
+            }
+            if (operator == FilterCriteria.Operator.LTE) {
+                return comparableState.compareTo(refState) <= 0;
+            }
+        } else {
+            LOGGER.warn("Using operator {} but state {} is not comparable!", operator, refState);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link NumberRingBufferStorageTests} contains tests for the {@link NumberRingBufferStorage}
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class NumberRingBufferStorageTests {
+    private static final String ITEM_NAME = "testItem";
+    private static final ZonedDateTime START = ZonedDateTime.of(2022, 5, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+
+    private @NonNullByDefault({}) FilterCriteria filterCriteria;
+
+    @BeforeEach
+    public void setup() {
+        filterCriteria = new FilterCriteria();
+        filterCriteria.setItemName(ITEM_NAME);
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+    }
+
+    @Test
+    public void outOfOrderValuesAreSorted() {
+        NumberRingBufferStorage storage = create(0);
+        for (int i : new int[] { 5, 1, 3, 2, 4, 0 }) {
+            assertThat(storage.store(START.plusMinutes(i), new DecimalType(i), 0), is(true));
+        }
+
+        assertThat(values(storage.query(ITEM_NAME, filterCriteria)), contains(0, 1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void descendingOrderingAndTimeRange() {
+        NumberRingBufferStorage storage = create(0);
+        for (int i = 0; i < 100; i++) {
+            storage.store(START.plusMinutes(i), new DecimalType(i), 0);
+        }
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.DESCENDING);
+        filterCriteria.setBeginDate(START.plusMinutes(10));
+        filterCriteria.setEndDate(START.plusMinutes(13));
+        List<HistoricItem> result = storage.query(ITEM_NAME, filterCriteria);
+
+        assertThat(values(result), contains(13, 12, 11, 10));
+        assertThat(result.getFirst().getTimestamp(), is(START.plusMinutes(13)));
+        assertThat(result.getFirst().getName(), is(ITEM_NAME));
+    }
+
+    @Test
+    public void oldestValuesAreRemovedWhenFull() {
+        NumberRingBufferStorage storage = create(20);
+        for (int i = 0; i < 50; i++) {
+            storage.store(START.plusMinutes(i), new DecimalType(i), 20);
+        }
+        // older than all remaining values, dropped right away
+        storage.store(START.minusMinutes(1), new DecimalType(-1), 20);
+        // fits in between, the oldest value is removed instead
+        storage.store(START.plusMinutes(40).plusSeconds(30), new DecimalType(100), 20);
+
+        List<Integer> values = values(storage.query(ITEM_NAME, filterCriteria));
+        assertThat(values, hasSize(20));
+        assertThat(values.getFirst(), is(31));
+        assertThat(values.get(10), is(100));
+        assertThat(values.getLast(), is(49));
+
+        storage.trim(5);
+        assertThat(values(storage.query(ITEM_NAME, filterCriteria)), contains(45, 46, 47, 48, 49));
+    }
+
+    @Test
+    public void existingValueIsKept() {
+        NumberRingBufferStorage storage = create(0);
+        storage.store(START, new DecimalType(1), 0);
+        storage.store(START, new DecimalType(2), 0);
+
+        assertThat(values(storage.query(ITEM_NAME, filterCriteria)), contains(1));
+    }
+
+    @Test
+    public void removeRangeAndState() {
+        NumberRingBufferStorage storage = create(0);
+        for (int i = 0; i < 10; i++) {
+            storage.store(START.plusMinutes(i), new DecimalType(i % 2), 0);
+        }
+
+        FilterCriteria removeFilter = new FilterCriteria();
+        removeFilter.setItemName(ITEM_NAME);
+        removeFilter.setBeginDate(START.plusMinutes(2));
+        removeFilter.setEndDate(START.plusMinutes(7));
+        removeFilter.setState(new DecimalType(1));
+        removeFilter.setOperator(FilterCriteria.Operator.EQ);
+        storage.remove(removeFilter);
+
+        assertThat(values(storage.query(ITEM_NAME, filterCriteria)), contains(0, 1, 0, 0, 0, 0, 1));
+    }
+
+    @Test
+    public void quantitiesAreConvertedToFirstUnit() {
+        NumberRingBufferStorage storage = Objects.requireNonNull(
+                NumberRingBufferStorage.create(START, new QuantityType<>(20, SIUnits.CELSIUS), 0));
+        storage.store(START, new QuantityType<>(20, SIUnits.CELSIUS), 0);
+        storage.store(START.plusMinutes(1), new QuantityType<>(293.15, Units.KELVIN), 0);
+
+        List<HistoricItem> result = storage.query(ITEM_NAME, filterCriteria);
+        assertThat(result, hasSize(2));
+        QuantityType<?> converted = (QuantityType<?>) result.getLast().getState();
+        assertThat(converted.getUnit(), is(SIUnits.CELSIUS));
+        assertThat(converted.doubleValue(), is(closeTo(20.0, 0.0001)));
+
+        assertThat(storage.store(START.plusMinutes(2), new DecimalType(1), 0), is(false));
+        assertThat(storage.store(START.plusMinutes(2), new QuantityType<>(1, Units.WATT), 0), is(false));
+    }
+
+    @Test
+    public void serviceMovesItemToObjectStorageForNonNumericState(@Mock GenericItem item) {
+        when(item.getName()).thenReturn(ITEM_NAME);
+        InMemoryPersistenceService service = new InMemoryPersistenceService();
+        service.activate(Map.of("storage", "number"));
+
+        service.store(item, START, new DecimalType(1));
+        service.store(item, START.plusMinutes(1), new StringType("text"));
+        service.store(item, START.plusMinutes(2), new DecimalType(3));
+
+        List<State> states = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> states.add(h.getState()));
+        assertThat(states, contains(new DecimalType(1), new StringType("text"), new DecimalType(3)));
+    }
+
+    private NumberRingBufferStorage create(long maxEntries) {
+        return Objects.requireNonNull(NumberRingBufferStorage.create(START, new DecimalType(0), maxEntries));
+    }
+
+    private List<Integer> values(List<HistoricItem> items) {
+        return items.stream().map(h -> ((DecimalType) h.getState()).intValue()).toList();
+    }
+}
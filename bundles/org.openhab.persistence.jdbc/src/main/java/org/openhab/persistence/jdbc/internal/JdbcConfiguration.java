@@ -66,6 +66,11 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    private int queueCapacity = 10000;
+    private int batchSize = 1;
+    private int flushInterval = 0;
+    private int queryFetchSize = 0;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +196,30 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String qc = (String) configuration.get("queueCapacity");
+        if (qc != null && !qc.isBlank() && isNumericPattern.matcher(qc).matches()) {
+            queueCapacity = Math.max(1, Integer.parseInt(qc));
+            logger.debug("JDBC::updateConfig: queueCapacity={}", queueCapacity);
+        }
+
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            batchSize = Math.max(1, Integer.parseInt(bs));
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String fi = (String) configuration.get("flushInterval");
+        if (fi != null && !fi.isBlank() && isNumericPattern.matcher(fi).matches()) {
+            flushInterval = Integer.parseInt(fi);
+            logger.debug("JDBC::updateConfig: flushInterval={}", flushInterval);
+        }
+
+        String qf = (String) configuration.get("queryFetchSize");
+        if (qf != null && !qf.isBlank() && isNumericPattern.matcher(qf).matches()) {
+            queryFetchSize = Integer.parseInt(qf);
+            logger.debug("JDBC::updateConfig: queryFetchSize={}", queryFetchSize);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -203,6 +232,18 @@ public class JdbcConfiguration {
             dBDAO.databaseProps.setProperty("minimumIdle", ic);
         }
 
+        String sc = (String) configuration.get("statementCacheSize");
+        if (sc != null && !sc.isBlank() && isNumericPattern.matcher(sc).matches()) {
+            dBDAO.setStatementCacheSize(Integer.parseInt(sc));
+            logger.debug("JDBC::updateConfig: statementCacheSize={}", sc);
+        }
+
+        String ld = (String) configuration.get("leakDetectionThreshold");
+        if (ld != null && !ld.isBlank() && isNumericPattern.matcher(ld).matches()) {
+            dBDAO.databaseProps.setProperty("leakDetectionThreshold", ld);
+            logger.debug("JDBC::updateConfig: leakDetectionThreshold={}", ld);
+        }
+
         // undocumented
         String it = (String) configuration.get("idleTimeout");
         if (it != null && !it.isBlank()) {
@@ -404,6 +445,22 @@ public class JdbcConfiguration {
         return tableIdDigitCount;
     }
 
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getFlushInterval() {
+        return flushInterval;
+    }
+
+    public int getQueryFetchSize() {
+        return queryFetchSize;
+    }
+
     public JdbcBaseDAO getDBDAO() {
         return dBDAO;
     }
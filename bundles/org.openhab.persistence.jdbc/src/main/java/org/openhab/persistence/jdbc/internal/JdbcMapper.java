@@ -13,9 +13,11 @@
 package org.openhab.persistence.jdbc.internal;
 
 import java.sql.SQLInvalidAuthorizationSpecException;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -35,12 +37,15 @@ import org.openhab.core.types.State;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceEntry;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+import org.openhab.persistence.jdbc.internal.utils.OperationStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 
 /**
@@ -52,6 +57,13 @@ import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 public class JdbcMapper {
     private static final int MIGRATION_PERCENTAGE_THRESHOLD = 50;
 
+    // Names of the operations in the operation statistics
+    public static final String OPERATION_STORE = "store";
+    public static final String OPERATION_STORE_BATCH = "storeBatch";
+    public static final String OPERATION_QUERY = "query";
+    public static final String OPERATION_COUNT = "count";
+    public static final String OPERATION_DELETE = "delete";
+
     private final Logger logger = LoggerFactory.getLogger(JdbcMapper.class);
     private final TimeZoneProvider timeZoneProvider;
 
@@ -61,6 +73,7 @@ public class JdbcMapper {
     protected @NonNullByDefault({}) JdbcConfiguration conf;
     protected final Map<String, String> itemNameToTableNameMap = new HashMap<>();
     protected @NonNullByDefault({}) NamingStrategy namingStrategy;
+    protected final OperationStatistics operationStatistics = new OperationStatistics();
     private long afterAccessMin = 10000;
     private long afterAccessMax = 0;
 
@@ -193,6 +206,7 @@ public class JdbcMapper {
         logger.debug("JDBC::updateItemTableNames");
         long timerStart = System.currentTimeMillis();
         conf.getDBDAO().doUpdateItemTableNames(vol);
+        conf.getDBDAO().clearStatementCache();
         logTime("updateItemTableNames", timerStart, System.currentTimeMillis());
     }
 
@@ -209,6 +223,7 @@ public class JdbcMapper {
         logger.debug("JDBC::alterTableColumn");
         long timerStart = System.currentTimeMillis();
         conf.getDBDAO().doAlterTableColumn(tableName, columnName, columnType, nullable);
+        conf.getDBDAO().clearStatementCache();
         logTime("alterTableColumn", timerStart, System.currentTimeMillis());
     }
 
@@ -217,17 +232,84 @@ public class JdbcMapper {
         logger.debug("JDBC::storeItemValue: item={} state={} date={}", item, itemState, date);
         String tableName = getTable(item, alias);
         long timerStart = System.currentTimeMillis();
-        if (date == null) {
-            conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null));
-        } else {
-            conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null), date);
+        boolean success = false;
+        try {
+            if (date == null) {
+                conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null));
+            } else {
+                conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null), date);
+            }
+            success = true;
+        } finally {
+            recordOperation(OPERATION_STORE, timerStart, success);
         }
         logTime("storeItemValue", timerStart, System.currentTimeMillis());
         errCnt = 0;
     }
 
+    /**
+     * Stores the given values using one JDBC batch per item table. All entries must carry a date.
+     * If a batch fails, the values of that table are stored one by one, so a single bad value
+     * (e.g. a duplicate key on databases without upsert support) does not discard the whole batch.
+     *
+     * @param entries the values to store
+     * @return the number of values that could not be stored
+     */
+    protected int storeItemValues(List<JdbcPersistenceEntry> entries) {
+        logger.debug("JDBC::storeItemValues: {} values", entries.size());
+        Map<String, Map<Instant, JdbcPersistenceEntry>> tableToEntries = new LinkedHashMap<>();
+        int failed = 0;
+        for (JdbcPersistenceEntry entry : entries) {
+            try {
+                String tableName = getTable(entry.item(), entry.alias());
+                // a later value with the same timestamp replaces the earlier one, as a single row update would do
+                tableToEntries.computeIfAbsent(tableName, t -> new LinkedHashMap<>())
+                        .put(Objects.requireNonNull(entry.date()).toInstant(), entry);
+            } catch (JdbcException e) {
+                logger.warn("JDBC::storeItemValues: Unable to store item '{}'", entry.item().getName(), e);
+                failed++;
+            }
+        }
+        for (Map.Entry<String, Map<Instant, JdbcPersistenceEntry>> tableEntries : tableToEntries.entrySet()) {
+            String tableName = tableEntries.getKey();
+            List<JdbcPersistenceEntry> values = new ArrayList<>(tableEntries.getValue().values());
+            long timerStart = System.currentTimeMillis();
+            try {
+                conf.getDBDAO().doStoreItemValues(tableName, values);
+                recordOperation(OPERATION_STORE_BATCH, timerStart, true);
+                logTime("storeItemValues", timerStart, System.currentTimeMillis());
+                errCnt = 0;
+            } catch (JdbcSQLException e) {
+                recordOperation(OPERATION_STORE_BATCH, timerStart, false);
+                logger.debug("JDBC::storeItemValues: Batch insert into '{}' failed, storing {} values one by one",
+                        tableName, values.size(), e);
+                for (JdbcPersistenceEntry value : values) {
+                    long valueTimerStart = System.currentTimeMillis();
+                    try {
+                        conf.getDBDAO().doStoreItemValue(value.item(), value.state(), new ItemVO(tableName, null),
+                                Objects.requireNonNull(value.date()));
+                        recordOperation(OPERATION_STORE, valueTimerStart, true);
+                    } catch (JdbcSQLException e2) {
+                        recordOperation(OPERATION_STORE, valueTimerStart, false);
+                        logger.warn("JDBC::storeItemValues: Unable to store item '{}'", value.item().getName(), e2);
+                        failed++;
+                    }
+                }
+            }
+        }
+        return failed;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
-        return conf.getDBDAO().doGetRowCount(tableName);
+        long timerStart = System.currentTimeMillis();
+        boolean success = false;
+        try {
+            long rowCount = conf.getDBDAO().doGetRowCount(tableName);
+            success = true;
+            return rowCount;
+        } finally {
+            recordOperation(OPERATION_COUNT, timerStart, success);
+        }
     }
 
     protected List<HistoricItem> getHistItemFilterQuery(FilterCriteria filter, int numberDecimalcount, String table,
@@ -236,17 +318,43 @@ public class JdbcMapper {
                 "JDBC::getHistItemFilterQuery filter='{}' numberDecimalcount='{}' table='{}' item='{}' itemName='{}'",
                 true, numberDecimalcount, table, item, item.getName());
         long timerStart = System.currentTimeMillis();
-        List<HistoricItem> result = conf.getDBDAO().doGetHistItemFilterQuery(item, filter, numberDecimalcount, table,
-                item.getName(), timeZoneProvider.getTimeZone());
+        List<HistoricItem> result;
+        boolean success = false;
+        try {
+            result = conf.getDBDAO().doGetHistItemFilterQuery(item, filter, numberDecimalcount, table, item.getName(),
+                    timeZoneProvider.getTimeZone());
+            success = true;
+        } finally {
+            recordOperation(OPERATION_QUERY, timerStart, success);
+        }
         logTime("getHistItemFilterQuery", timerStart, System.currentTimeMillis());
         errCnt = 0;
         return result;
     }
 
+    protected Iterable<HistoricItem> getHistItemFilterQueryStream(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item) {
+        logger.debug(
+                "JDBC::getHistItemFilterQueryStream filter='{}' numberDecimalcount='{}' table='{}' item='{}' itemName='{}'",
+                true, numberDecimalcount, table, item, item.getName());
+        return conf.getDBDAO().doGetHistItemFilterQueryStream(item, filter, numberDecimalcount, table, item.getName(),
+                timeZoneProvider.getTimeZone(), conf.getQueryFetchSize(), (timerStart, success) -> {
+                    // the query is only finished when its result has been read
+                    recordOperation(OPERATION_QUERY, timerStart, success);
+                    logTime("getHistItemFilterQueryStream", timerStart, System.currentTimeMillis());
+                });
+    }
+
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
-        conf.getDBDAO().doDeleteItemValues(filter, table, timeZoneProvider.getTimeZone());
+        boolean success = false;
+        try {
+            conf.getDBDAO().doDeleteItemValues(filter, table, timeZoneProvider.getTimeZone());
+            success = true;
+        } finally {
+            recordOperation(OPERATION_DELETE, timerStart, success);
+        }
         logTime("deleteItemValues", timerStart, System.currentTimeMillis());
         errCnt = 0;
     }
@@ -285,9 +393,28 @@ public class JdbcMapper {
         logger.debug("JDBC::closeConnection");
         // Closes all open connection pools
         Yank.releaseDefaultConnectionPool();
+        conf.getDBDAO().clearStatementCache();
         conf.setDbConnected(false);
     }
 
+    /**
+     * Returns the current state of the database connection pool.
+     */
+    public Map<String, Object> getConnectionPoolStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        if (!conf.isDbConnected()) {
+            return statistics;
+        }
+        HikariPoolMXBean pool = Yank.getDefaultConnectionPool().getHikariPoolMXBean();
+        if (pool != null) {
+            statistics.put("activeConnections", pool.getActiveConnections());
+            statistics.put("idleConnections", pool.getIdleConnections());
+            statistics.put("totalConnections", pool.getTotalConnections());
+            statistics.put("threadsAwaitingConnection", pool.getThreadsAwaitingConnection());
+        }
+        return statistics;
+    }
+
     protected boolean checkDBAccessability() {
         // Check if connection is valid
         if (initialized) {
@@ -483,6 +610,25 @@ public class JdbcMapper {
     /*****************
      * H E L P E R S *
      *****************/
+    private void recordOperation(String operation, long timerStart, boolean success) {
+        operationStatistics.record(operation, System.currentTimeMillis() - timerStart, success);
+    }
+
+    /**
+     * Returns the execution count and time of the database operations since the service was started or the
+     * statistics were reset.
+     */
+    public Map<String, OperationStatistics.Snapshot> getOperationStatistics() {
+        return operationStatistics.getSnapshots();
+    }
+
+    /**
+     * Clears the execution count and time of the database operations.
+     */
+    public void resetOperationStatistics() {
+        operationStatistics.reset();
+    }
+
     private void logTime(String me, long timerStart, long timerStop) {
         if (conf.enableLogTime && logger.isInfoEnabled()) {
             conf.timerCount++;
@@ -16,13 +16,21 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -46,8 +54,10 @@ import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceEntry;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+import org.openhab.persistence.jdbc.internal.utils.MovingAverage;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
@@ -70,6 +80,9 @@ import org.slf4j.LoggerFactory;
 @ConfigurableService(category = "persistence", label = "JDBC Persistence Service", description_uri = JdbcPersistenceServiceConstants.CONFIG_URI)
 public class JdbcPersistenceService extends JdbcMapper implements ModifiablePersistenceService {
 
+    private static final int WRITE_QUEUE_POLL_TIMEOUT_MS = 1000;
+    private static final int WRITE_QUEUE_SHUTDOWN_TIMEOUT_S = 30;
+
     private final Logger logger = LoggerFactory.getLogger(JdbcPersistenceService.class);
 
     private final ItemRegistry itemRegistry;
@@ -77,6 +90,21 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private BlockingQueue<JdbcPersistenceEntry> writeQueue = new LinkedBlockingQueue<>();
+    private volatile boolean running = false;
+    private volatile boolean writeQueueFull = false;
+    private @Nullable Future<?> writeQueueJob;
+
+    // statistics of the write queue, only updated by the writer thread except for the dropped counter
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    // guards the flush statistics, so that they are read consistently with each other
+    private final Object flushStatisticsLock = new Object();
+    private final MovingAverage batchSizeAverage = new MovingAverage(100);
+    private final MovingAverage flushTimeAverage = new MovingAverage(100);
+    private long flushTimeMax = 0;
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -98,6 +126,9 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void activate(BundleContext bundleContext, Map<Object, Object> configuration) {
         logger.debug("JDBC::activate: persistence service activated");
         updateConfig(configuration);
+        writeQueue = new LinkedBlockingQueue<>(conf.getQueueCapacity());
+        running = true;
+        writeQueueJob = scheduler.submit(this::processWriteQueue);
     }
 
     /**
@@ -120,6 +151,20 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        // let the writer flush the values still waiting in the queue
+        running = false;
+        Future<?> writeQueueJob = this.writeQueueJob;
+        if (writeQueueJob != null) {
+            try {
+                writeQueueJob.get(WRITE_QUEUE_SHUTDOWN_TIMEOUT_S, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                logger.warn("JDBC::deactivate: {} values in write queue could not be stored", writeQueue.size());
+            }
+            this.writeQueueJob = null;
+        }
+        scheduler.shutdownNow();
         // closeConnection();
         initialized = false;
     }
@@ -137,37 +182,123 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        enqueue(item, null, item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        enqueue(item, null, item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        enqueue(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        enqueue(item, date, state, alias);
     }
 
-    private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
-            @Nullable String alias) {
+    private void enqueue(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
         // Do not store undefined/uninitialized data
         if (state instanceof UnDefType) {
             logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
             return;
         }
+        // Batched values are written later, so the timestamp has to be taken now instead of by the database
+        ZonedDateTime timestamp = date == null && conf.getBatchSize() > 1 ? ZonedDateTime.now() : date;
+        if (writeQueue.offer(new JdbcPersistenceEntry(item, state, timestamp, alias))) {
+            if (writeQueueFull) {
+                writeQueueFull = false;
+                logger.info("JDBC::store: Write queue accepts values again, {} values have been dropped so far",
+                        droppedCount.get());
+            }
+        } else {
+            droppedCount.incrementAndGet();
+            if (!writeQueueFull) {
+                writeQueueFull = true;
+                logger.warn(
+                        "JDBC::store: Write queue is full ({} values), dropping values until the database catches up",
+                        writeQueue.size());
+            }
+        }
+    }
+
+    /**
+     * Takes values from the write queue and stores them until the service is deactivated.
+     * Up to {@link JdbcConfiguration#getBatchSize()} values are collected per flush, waiting at most
+     * {@link JdbcConfiguration#getFlushInterval()} milliseconds for a batch to fill up.
+     */
+    private void processWriteQueue() {
+        int batchSize = conf.getBatchSize();
+        long flushInterval = TimeUnit.MILLISECONDS.toNanos(conf.getFlushInterval());
+        List<JdbcPersistenceEntry> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !writeQueue.isEmpty()) {
+                JdbcPersistenceEntry first = writeQueue.poll(WRITE_QUEUE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval;
+                while (batch.size() < batchSize) {
+                    writeQueue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    JdbcPersistenceEntry next = writeQueue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                try {
+                    internalStore(batch);
+                } catch (RuntimeException e) {
+                    // keep the writer running, otherwise the queue would fill up and values would be dropped
+                    logger.warn("JDBC::processWriteQueue: Unexpected error, {} values could not be stored",
+                            batch.size(), e);
+                    droppedCount.addAndGet(batch.size());
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void internalStore(List<JdbcPersistenceEntry> entries) {
         if (!checkDBAccessability()) {
             logger.warn(
-                    "JDBC::store: No connection to database. Cannot persist state '{}' for item '{}'! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
-                    state, item, errCnt, conf.getErrReconnectThreshold());
+                    "JDBC::store: No connection to database. Cannot persist {} values! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    entries.size(), errCnt, conf.getErrReconnectThreshold());
+            droppedCount.addAndGet(entries.size());
             return;
         }
+        long timerStart = System.currentTimeMillis();
+        int failed = 0;
+        if (entries.size() == 1) {
+            JdbcPersistenceEntry entry = entries.get(0);
+            failed = internalStore(entry.item(), entry.date(), entry.state(), entry.alias()) ? 0 : 1;
+        } else {
+            failed = storeItemValues(entries);
+        }
+        long flushTime = System.currentTimeMillis() - timerStart;
+        synchronized (flushStatisticsLock) {
+            storedCount.addAndGet(entries.size() - failed);
+            droppedCount.addAndGet(failed);
+            flushCount.incrementAndGet();
+            batchSizeAverage.add(entries.size());
+            flushTimeAverage.add(flushTime);
+            flushTimeMax = Math.max(flushTimeMax, flushTime);
+        }
+        logger.debug("JDBC: Stored {} values in SQL database in {} ms, {} values remaining in write queue",
+                entries.size() - failed, flushTime, writeQueue.size());
+    }
+
+    private boolean internalStore(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
         try {
             long timerStart = System.currentTimeMillis();
             storeItemValue(item, state, date, alias);
@@ -175,11 +306,33 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
                 logger.debug("JDBC: Stored item '{}' as '{}' in SQL database at {} in {} ms.", item.getName(), state,
                         new Date(), System.currentTimeMillis() - timerStart);
             }
+            return true;
         } catch (JdbcException e) {
             logger.warn("JDBC::store: Unable to store item", e);
+            return false;
         }
     }
 
+    /**
+     * Get statistics of the write queue.
+     *
+     * @return map of statistic names to their current values
+     */
+    public Map<String, Object> getWriteQueueStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("queueDepth", writeQueue.size());
+        statistics.put("queueCapacity", writeQueue.size() + writeQueue.remainingCapacity());
+        synchronized (flushStatisticsLock) {
+            statistics.put("storedValues", storedCount.get());
+            statistics.put("droppedValues", droppedCount.get());
+            statistics.put("flushes", flushCount.get());
+            statistics.put("averageBatchSize", batchSizeAverage.getAverageDouble());
+            statistics.put("averageFlushTime", flushTimeAverage.getAverageDouble());
+            statistics.put("maximumFlushTime", flushTimeMax);
+        }
+        return statistics;
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return getItems();
@@ -250,6 +403,11 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             return List.of();
         }
 
+        if (conf.getQueryFetchSize() > 0 && filter.getPageSize() == Integer.MAX_VALUE) {
+            // unbounded queries are read lazily from a cursor instead of being loaded into memory at once
+            return getHistItemFilterQueryStream(filter, conf.getNumberDecimalcount(), table, item);
+        }
+
         try {
             long timerStart = System.currentTimeMillis();
             List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
@@ -35,6 +35,7 @@ import org.openhab.persistence.jdbc.internal.ItemTableCheckEntryStatus;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceService;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceServiceConstants;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+import org.openhab.persistence.jdbc.internal.utils.OperationStatistics;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -51,18 +52,23 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String CMD_SCHEMA = "schema";
     private static final String CMD_TABLES = "tables";
     private static final String CMD_RELOAD = "reload";
+    private static final String CMD_QUEUE = "queue";
+    private static final String CMD_STATISTICS = "statistics";
     private static final String SUBCMD_SCHEMA_CHECK = "check";
     private static final String SUBCMD_SCHEMA_FIX = "fix";
     private static final String SUBCMD_TABLES_LIST = "list";
     private static final String SUBCMD_TABLES_CLEAN = "clean";
+    private static final String SUBCMD_STATISTICS_RESET = "reset";
     private static final String PARAMETER_ALL = "all";
     private static final String PARAMETER_FORCE = "force";
     private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
-            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD), false);
+            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD, CMD_QUEUE, CMD_STATISTICS), false);
     private static final StringsCompleter SUBCMD_SCHEMA_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_SCHEMA_CHECK, SUBCMD_SCHEMA_FIX), false);
     private static final StringsCompleter SUBCMD_TABLES_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_TABLES_LIST, SUBCMD_TABLES_CLEAN), false);
+    private static final StringsCompleter SUBCMD_STATISTICS_COMPLETER = new StringsCompleter(
+            List.of(SUBCMD_STATISTICS_RESET), false);
 
     private final PersistenceServiceRegistry persistenceServiceRegistry;
 
@@ -135,6 +141,17 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         } else if (args.length == 1 && CMD_RELOAD.equalsIgnoreCase(args[0])) {
             reload(persistenceService, console);
             return true;
+        } else if (args.length == 1 && CMD_QUEUE.equalsIgnoreCase(args[0])) {
+            showQueueStatistics(persistenceService, console);
+            return true;
+        } else if (args.length == 1 && CMD_STATISTICS.equalsIgnoreCase(args[0])) {
+            showOperationStatistics(persistenceService, console);
+            return true;
+        } else if (args.length == 2 && CMD_STATISTICS.equalsIgnoreCase(args[0])
+                && SUBCMD_STATISTICS_RESET.equalsIgnoreCase(args[1])) {
+            persistenceService.resetOperationStatistics();
+            console.println("Operation statistics reset.");
+            return true;
         }
         return false;
     }
@@ -252,6 +269,37 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         console.println("Item index reloaded.");
     }
 
+    private void showQueueStatistics(JdbcPersistenceService persistenceService, Console console) {
+        Map<String, Object> statistics = persistenceService.getWriteQueueStatistics();
+        int nameMaxLength = statistics.keySet().stream().map(String::length).max(Integer::compare).orElse(0);
+        for (Entry<String, Object> entry : statistics.entrySet()) {
+            console.println(String.format("%1$-" + (nameMaxLength + 2) + "s%2$s", entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private void showOperationStatistics(JdbcPersistenceService persistenceService, Console console) {
+        Map<String, OperationStatistics.Snapshot> statistics = persistenceService.getOperationStatistics();
+        int operationMaxLength = Math
+                .max(statistics.keySet().stream().map(String::length).max(Integer::compare).orElse(0), 9);
+        console.println(String.format("%1$-" + (operationMaxLength + 2) + "s%2$10s  %3$8s  %4$10s  %5$10s",
+                "Operation", "Count", "Failed", "Avg (ms)", "Max (ms)"));
+        console.println("-".repeat(operationMaxLength + 46));
+        for (Entry<String, OperationStatistics.Snapshot> entry : statistics.entrySet()) {
+            OperationStatistics.Snapshot snapshot = entry.getValue();
+            console.println(String.format("%1$-" + (operationMaxLength + 2) + "s%2$10d  %3$8d  %4$10d  %5$10d",
+                    entry.getKey(), snapshot.count(), snapshot.failed(), snapshot.averageTime(), snapshot.maxTime()));
+        }
+        Map<String, Object> poolStatistics = persistenceService.getConnectionPoolStatistics();
+        if (!poolStatistics.isEmpty()) {
+            console.println("");
+            int nameMaxLength = poolStatistics.keySet().stream().map(String::length).max(Integer::compare).orElse(0);
+            for (Entry<String, Object> entry : poolStatistics.entrySet()) {
+                console.println(
+                        String.format("%1$-" + (nameMaxLength + 2) + "s%2$s", entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
     @Override
     public List<String> getUsages() {
         return Arrays.asList(buildCommandUsage(CMD_SCHEMA + " " + SUBCMD_SCHEMA_CHECK, "check schema integrity"),
@@ -261,7 +309,11 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                 buildCommandUsage(
                         CMD_TABLES + " " + SUBCMD_TABLES_CLEAN + " [<itemName>]" + " [" + PARAMETER_FORCE + "]",
                         "clean inconsistent items (remove from index and drop tables)"),
-                buildCommandUsage(CMD_RELOAD, "reload item index/schema"));
+                buildCommandUsage(CMD_RELOAD, "reload item index/schema"),
+                buildCommandUsage(CMD_QUEUE, "show write queue statistics"),
+                buildCommandUsage(CMD_STATISTICS, "show database operation and connection pool statistics"),
+                buildCommandUsage(CMD_STATISTICS + " " + SUBCMD_STATISTICS_RESET,
+                        "reset database operation statistics"));
     }
 
     @Override
@@ -278,6 +330,8 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                 return SUBCMD_TABLES_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
             } else if (CMD_SCHEMA.equalsIgnoreCase(args[0])) {
                 return SUBCMD_SCHEMA_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+            } else if (CMD_STATISTICS.equalsIgnoreCase(args[0])) {
+                return SUBCMD_STATISTICS_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
             }
         } else if (cursorArgumentIndex == 2) {
             if (CMD_TABLES.equalsIgnoreCase(args[0])) {
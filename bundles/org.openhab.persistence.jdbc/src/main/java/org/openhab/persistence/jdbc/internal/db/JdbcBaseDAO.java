@@ -13,6 +13,7 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -24,6 +25,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
@@ -33,6 +36,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.knowm.yank.Yank;
 import org.knowm.yank.exceptions.YankSQLException;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.items.ColorItem;
@@ -56,10 +60,12 @@ import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
+import org.openhab.persistence.jdbc.internal.JdbcPersistenceServiceConstants;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceEntry;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.openhab.persistence.jdbc.internal.utils.DbMetaData;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
@@ -73,6 +79,9 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class JdbcBaseDAO {
+    // a streaming query that is not read to the end returns its connection to the pool after this time
+    private static final Duration STREAMING_QUERY_MAX_LIFETIME = Duration.ofMinutes(1);
+
     private final Logger logger = LoggerFactory.getLogger(JdbcBaseDAO.class);
 
     public final Properties databaseProps = new Properties();
@@ -82,6 +91,9 @@ public class JdbcBaseDAO {
     // Get Database Meta data
     protected @Nullable DbMetaData dbMeta;
 
+    // Statement SQL per item table, the prepared statements themselves are cached by the JDBC driver
+    private final Map<String, String> statementSqlCache = new ConcurrentHashMap<>();
+
     protected String sqlPingDB = "SELECT 1";
     protected String sqlGetDB = "SELECT DATABASE()";
     protected String sqlIfTableExists = "SHOW TABLES LIKE '#searchTable#'";
@@ -250,6 +262,38 @@ public class JdbcBaseDAO {
         return new Properties(this.databaseProps);
     }
 
+    /**
+     * Configures the number of prepared statements the JDBC driver caches per connection.
+     * Drivers without a configurable statement cache ignore this.
+     *
+     * @param size maximum number of cached prepared statements
+     */
+    public void setStatementCacheSize(int size) {
+        logger.debug("JDBC::setStatementCacheSize: Not supported by this database, ignoring size {}", size);
+    }
+
+    /**
+     * Returns the SQL of a statement for an item table, building it only on first use. The SQL of a statement
+     * only depends on the table and its value type, so it can be reused for every later value and keeps the
+     * statement text stable for the statement cache of the JDBC driver.
+     *
+     * @param statement name of the statement
+     * @param vo the item table and value type the statement is built for
+     * @param sqlBuilder builds the SQL if it is not cached yet
+     * @return the SQL of the statement
+     */
+    protected String cachedSql(String statement, ItemVO vo, Supplier<String> sqlBuilder) {
+        String key = statement + "|" + vo.getTableName() + "|" + vo.getDbType();
+        return Objects.requireNonNull(statementSqlCache.computeIfAbsent(key, k -> sqlBuilder.get()));
+    }
+
+    /**
+     * Clears the cached statement SQL, e.g. after item tables have been renamed or altered.
+     */
+    public void clearStatementCache() {
+        statementSqlCache.clear();
+    }
+
     /**************
      * ITEMS DAOs *
      **************/
@@ -430,9 +474,11 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), sqlTypes.get("tablePrimaryValue") });
+        String sql = cachedSql("insert", storedVO,
+                () -> StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                        new String[] { "#tableName#", "#tablePrimaryValue#" },
+                        new String[] { formattedIdentifier(storedVO.getTableName()),
+                                sqlTypes.get("tablePrimaryValue") }));
         Object[] params = { storedVO.getValue(), storedVO.getValue() };
         logger.debug("JDBC::doStoreItemValue sql={} value='{}'", sql, storedVO.getValue());
         try {
@@ -444,9 +490,10 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+        String sql = cachedSql("insertAt", storedVO,
+                () -> StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                        new String[] { "#tableName#", "#tablePrimaryValue#" },
+                        new String[] { formattedIdentifier(storedVO.getTableName()), "?" }));
         java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
         Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
         logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
@@ -457,6 +504,39 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores multiple values into the same item table using a single JDBC batch.
+     *
+     * All entries must carry a date, as the time column is always bound as statement parameter.
+     *
+     * @param tableName the item table to insert the values into
+     * @param entries the values to store
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreItemValues(String tableName, List<JdbcPersistenceEntry> entries) throws JdbcSQLException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        // the value object is reused for all rows, the parameters of each row are copied out right away
+        ItemVO storedVO = new ItemVO(tableName, null);
+        Object[][] params = new Object[entries.size()][];
+        for (int i = 0; i < entries.size(); i++) {
+            JdbcPersistenceEntry entry = entries.get(i);
+            ZonedDateTime date = Objects.requireNonNull(entry.date());
+            storedVO = storeItemValueProvider(entry.item(), entry.state(), storedVO);
+            params[i] = storeItemValuesParamsProvider(new java.sql.Timestamp(date.toInstant().toEpochMilli()),
+                    storedVO);
+        }
+        ItemVO batchVO = storedVO;
+        String sql = cachedSql("insertBatch", batchVO, () -> storeItemValuesProvider(batchVO));
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+        try {
+            Yank.executeBatch(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -479,6 +559,46 @@ public class JdbcBaseDAO {
                 .collect(Collectors.<HistoricItem> toList());
     }
 
+    /**
+     * Returns the result of the filter query as a lazily evaluated {@link Iterable}, reading the rows from a database
+     * cursor in chunks of the given fetch size while it is iterated.
+     */
+    public Iterable<HistoricItem> doGetHistItemFilterQueryStream(Item item, FilterCriteria filter,
+            int numberDecimalcount, String table, String name, ZoneId timeZone, int fetchSize,
+            JdbcHistoricItemIterable.QueryListener listener) {
+        String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
+        logger.debug("JDBC::doGetHistItemFilterQueryStream sql={}, fetchSize={}", sql, fetchSize);
+        // we already retrieve the unit here once as it is a very costly operation
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        return new JdbcHistoricItemIterable(this, sql, fetchSize,
+                (time, value) -> new JdbcHistoricItem(itemName, objectAsState(item, unit, value),
+                        objectAsInstant(time)),
+                ThreadPoolManager.getScheduledPool(JdbcPersistenceServiceConstants.SERVICE_ID),
+                STREAMING_QUERY_MAX_LIFETIME, listener);
+    }
+
+    /**
+     * Takes a connection from the pool for a streaming query.
+     */
+    protected java.sql.Connection openStreamingConnection() throws java.sql.SQLException {
+        java.sql.Connection connection = Yank.getDefaultConnectionPool().getConnection();
+        try {
+            prepareStreamingQuery(connection);
+        } catch (java.sql.SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    /**
+     * Prepares a pooled connection before a streaming query is executed on it. Drivers which only honor the fetch
+     * size under certain conditions (e.g. inside a transaction) override this.
+     */
+    protected void prepareStreamingQuery(java.sql.Connection connection) throws java.sql.SQLException {
+    }
+
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterDeleteProvider(filter, table, timeZone);
         logger.debug("JDBC::doDeleteItemValues sql={}", sql);
@@ -565,6 +685,16 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    protected String storeItemValuesProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#dbType#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), storedVO.getDbType(), "?" });
+    }
+
+    protected Object[] storeItemValuesParamsProvider(java.sql.Timestamp timestamp, ItemVO storedVO) {
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     protected ItemVO storeItemValueProvider(Item item, State itemState, ItemVO vo) {
         String itemType = getItemType(item);
 
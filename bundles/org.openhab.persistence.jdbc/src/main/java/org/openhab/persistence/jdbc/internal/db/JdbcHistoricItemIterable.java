@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import java.lang.ref.Cleaner;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.HistoricItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lazily evaluated query result, reading rows from a database cursor while it is iterated instead of loading the
+ * whole result into memory first.
+ *
+ * Every call to {@link #iterator()} executes the query again. The connection is returned to the pool as soon as the
+ * last row has been read or reading failed. A cursor that is not read to the end keeps its connection until it is
+ * garbage collected, but not longer than the maximum lifetime. Reading from a cursor after that fails.
+ *
+ * Failures are thrown as {@link IllegalStateException} from {@link Iterator#hasNext()} and {@link Iterator#next()},
+ * so a failed query is not mistaken for an empty or complete result.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcHistoricItemIterable implements Iterable<HistoricItem> {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /**
+     * Receives the outcome of a query when its cursor is released.
+     */
+    @FunctionalInterface
+    public interface QueryListener {
+        /**
+         * @param timerStart the time in milliseconds when the query was executed
+         * @param success true if all rows have been read, false if executing the query or reading a row failed
+         */
+        void queryFinished(long timerStart, boolean success);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcHistoricItemIterable.class);
+
+    private final JdbcBaseDAO dao;
+    private final String sql;
+    private final int fetchSize;
+    private final BiFunction<Object, Object, HistoricItem> rowMapper;
+    private final ScheduledExecutorService scheduler;
+    private final Duration maxLifetime;
+    private final QueryListener listener;
+
+    /**
+     * @param dao the DAO to open connections for streaming
+     * @param sql the query returning time and value columns
+     * @param fetchSize the number of rows to fetch from the database per round trip
+     * @param rowMapper converts the time and value column of a row into a {@link HistoricItem}
+     * @param scheduler the scheduler releasing cursors that exceed their lifetime
+     * @param maxLifetime the time after which an open cursor is released
+     * @param listener receives the outcome of every query
+     */
+    JdbcHistoricItemIterable(JdbcBaseDAO dao, String sql, int fetchSize,
+            BiFunction<Object, Object, HistoricItem> rowMapper, ScheduledExecutorService scheduler,
+            Duration maxLifetime, QueryListener listener) {
+        this.dao = dao;
+        this.sql = sql;
+        this.fetchSize = fetchSize;
+        this.rowMapper = rowMapper;
+        this.scheduler = scheduler;
+        this.maxLifetime = maxLifetime;
+        this.listener = listener;
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        return new Cursor();
+    }
+
+    /**
+     * Holds the JDBC resources of a cursor, so they can be released without a reference to the cursor itself.
+     */
+    private static class Resources implements Runnable {
+        private @Nullable Connection connection;
+        private @Nullable PreparedStatement statement;
+        private @Nullable ResultSet resultSet;
+        private @Nullable ScheduledFuture<?> expiryJob;
+        private boolean expired = false;
+
+        @Override
+        public synchronized void run() {
+            ScheduledFuture<?> expiryJob = this.expiryJob;
+            if (expiryJob != null) {
+                expiryJob.cancel(false);
+                this.expiryJob = null;
+            }
+            try (Connection c = connection; PreparedStatement s = statement; ResultSet r = resultSet) {
+                // closed in reverse order by try-with-resources
+            } catch (SQLException e) {
+                LoggerFactory.getLogger(JdbcHistoricItemIterable.class)
+                        .debug("JDBC::JdbcHistoricItemIterable: Failed to release cursor", e);
+            } finally {
+                resultSet = null;
+                statement = null;
+                connection = null;
+            }
+        }
+
+        synchronized void expire() {
+            if (connection != null) {
+                LoggerFactory.getLogger(JdbcHistoricItemIterable.class)
+                        .debug("JDBC::JdbcHistoricItemIterable: Releasing cursor that exceeded its lifetime");
+                expired = true;
+                run();
+            }
+        }
+    }
+
+    private class Cursor implements Iterator<HistoricItem> {
+        private final Resources resources = new Resources();
+        private final Cleaner.Cleanable cleanable = CLEANER.register(this, resources);
+        private @Nullable HistoricItem next;
+        private long timerStart;
+        private boolean opened = false;
+        private boolean finished = false;
+
+        @Override
+        public boolean hasNext() {
+            if (!opened) {
+                opened = true;
+                open();
+                advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public HistoricItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            HistoricItem current = next;
+            // read ahead, so the cursor is released right after the last row even if hasNext() is not called again
+            advance();
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            return current;
+        }
+
+        private void open() {
+            timerStart = System.currentTimeMillis();
+            synchronized (resources) {
+                try {
+                    Connection connection = dao.openStreamingConnection();
+                    resources.connection = connection;
+                    PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY);
+                    resources.statement = statement;
+                    statement.setFetchSize(fetchSize);
+                    resources.resultSet = statement.executeQuery();
+                    resources.expiryJob = scheduler.schedule(resources::expire, maxLifetime.toMillis(),
+                            TimeUnit.MILLISECONDS);
+                } catch (SQLException e) {
+                    finish(false);
+                    throw new IllegalStateException("Unable to execute query '" + sql + "'", e);
+                }
+            }
+        }
+
+        private void advance() {
+            next = null;
+            if (finished) {
+                return;
+            }
+            synchronized (resources) {
+                ResultSet resultSet = resources.resultSet;
+                if (resources.expired || resultSet == null) {
+                    finish(false);
+                    throw new IllegalStateException("Cursor of query '" + sql + "' has been released after "
+                            + maxLifetime.toSeconds() + " s");
+                }
+                try {
+                    if (resultSet.next()) {
+                        next = rowMapper.apply(resultSet.getObject(1), resultSet.getObject(2));
+                    } else {
+                        finish(true);
+                    }
+                } catch (SQLException e) {
+                    finish(false);
+                    throw new IllegalStateException("Unable to read query result of '" + sql + "'", e);
+                } catch (RuntimeException e) {
+                    finish(false);
+                    throw e;
+                }
+            }
+        }
+
+        private void finish(boolean success) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            cleanable.clean();
+            logger.debug("JDBC::JdbcHistoricItemIterable: Query {} after {} ms", success ? "completed" : "failed",
+                    System.currentTimeMillis() - timerStart);
+            listener.queryFinished(timerStart, success);
+        }
+    }
+}
@@ -95,6 +95,12 @@ public class JdbcMariadbDAO extends JdbcBaseDAO {
         }
     }
 
+    @Override
+    public void setStatementCacheSize(int size) {
+        databaseProps.setProperty("dataSource.cachePrepStmts", size > 0 ? "true" : "false");
+        databaseProps.setProperty("dataSource.prepStmtCacheSize", Integer.toString(size));
+    }
+
     /**************
      * ITEMS DAOs *
      **************/
@@ -76,6 +76,10 @@ public class JdbcMysqlDAO extends JdbcBaseDAO {
         databaseProps.setProperty("dataSource.prepStmtCacheSqlLimit", "2048");
         databaseProps.setProperty("dataSource.jdbcCompliantTruncation", "false");// jdbc standard max varchar max length
                                                                                  // of 21845
+        // Send batched inserts as multi-row statements
+        databaseProps.setProperty("dataSource.rewriteBatchedStatements", "true");
+        // Honor the fetch size of streaming queries instead of reading the whole result at once
+        databaseProps.setProperty("dataSource.useCursorFetch", "true");
 
         // Properties for HikariCP
         // Use driverClassName
@@ -99,6 +103,12 @@ public class JdbcMysqlDAO extends JdbcBaseDAO {
         }
     }
 
+    @Override
+    public void setStatementCacheSize(int size) {
+        databaseProps.setProperty("dataSource.cachePrepStmts", size > 0 ? "true" : "false");
+        databaseProps.setProperty("dataSource.prepStmtCacheSize", Integer.toString(size));
+    }
+
     /**************
      * ITEMS DAOs *
      **************/
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Collects execution count and time of database operations, grouped by operation name.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class OperationStatistics {
+
+    /**
+     * Snapshot of the statistics of a single operation.
+     *
+     * @param count number of executions
+     * @param failed number of failed executions
+     * @param totalTime accumulated execution time in milliseconds
+     * @param maxTime longest execution time in milliseconds
+     */
+    public record Snapshot(long count, long failed, long totalTime, long maxTime) {
+        public long averageTime() {
+            return count == 0 ? 0 : totalTime / count;
+        }
+    }
+
+    private static class Counter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final AtomicLong maxTime = new AtomicLong();
+    }
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Records one execution of an operation.
+     *
+     * @param operation name of the operation, e.g. store or query
+     * @param time execution time in milliseconds
+     * @param success whether the operation succeeded
+     */
+    public void record(String operation, long time, boolean success) {
+        Counter counter = counters.computeIfAbsent(operation, o -> new Counter());
+        counter.count.increment();
+        if (!success) {
+            counter.failed.increment();
+        }
+        counter.totalTime.add(time);
+        counter.maxTime.accumulateAndGet(time, Math::max);
+    }
+
+    /**
+     * Returns a snapshot of all recorded operations, sorted by operation name.
+     */
+    public Map<String, Snapshot> getSnapshots() {
+        Map<String, Snapshot> snapshots = new TreeMap<>();
+        counters.forEach((operation, counter) -> snapshots.put(operation, new Snapshot(counter.count.sum(),
+                counter.failed.sum(), counter.totalTime.sum(), counter.maxTime.get())));
+        return snapshots;
+    }
+
+    /**
+     * Clears the statistics of all operations.
+     */
+    public void reset() {
+        counters.clear();
+    }
+}
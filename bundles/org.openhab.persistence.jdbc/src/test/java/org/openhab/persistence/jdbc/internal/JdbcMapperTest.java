@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
+import org.openhab.persistence.jdbc.internal.dto.ItemVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceEntry;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+
+/**
+ * Tests the {@link JdbcMapper}.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcMapperTest {
+
+    private final JdbcBaseDAO dao = mock(JdbcBaseDAO.class);
+    private final JdbcMapper mapper = new JdbcMapper(mock(TimeZoneProvider.class));
+    private final NumberItem itemA = new NumberItem("A");
+    private final NumberItem itemB = new NumberItem("B");
+    private final ZonedDateTime time = ZonedDateTime.now();
+
+    @BeforeEach
+    public void setup() {
+        JdbcConfiguration conf = mock(JdbcConfiguration.class);
+        when(conf.getDBDAO()).thenReturn(dao);
+        mapper.conf = conf;
+        mapper.initialized = true;
+        mapper.itemNameToTableNameMap.put("A", "item0001");
+        mapper.itemNameToTableNameMap.put("B", "item0002");
+    }
+
+    @Test
+    void storeItemValuesStoresOneBatchPerTable() throws JdbcSQLException {
+        int failed = mapper.storeItemValues(List.of(entry(itemA, 1, 0), entry(itemB, 2, 0), entry(itemA, 3, 1)));
+
+        assertThat(failed, is(0));
+        verify(dao).doStoreItemValues(eq("item0001"), eq(List.of(entry(itemA, 1, 0), entry(itemA, 3, 1))));
+        verify(dao).doStoreItemValues(eq("item0002"), eq(List.of(entry(itemB, 2, 0))));
+        verify(dao, never()).doStoreItemValue(any(), any(), any(), any(ZonedDateTime.class));
+    }
+
+    @Test
+    void storeItemValuesFallsBackToSingleValuesIfBatchFails() throws JdbcSQLException {
+        doThrow(JdbcSQLException.class).when(dao).doStoreItemValues(eq("item0001"), anyList());
+        doThrow(JdbcSQLException.class).when(dao).doStoreItemValue(eq(itemA), eq(new DecimalType(3)),
+                any(ItemVO.class), any(ZonedDateTime.class));
+
+        int failed = mapper.storeItemValues(List.of(entry(itemA, 1, 0), entry(itemB, 2, 0), entry(itemA, 3, 1)));
+
+        // only the value that also fails on its own is lost, the other table is not affected
+        assertThat(failed, is(1));
+        verify(dao, times(2)).doStoreItemValue(eq(itemA), any(State.class), any(ItemVO.class),
+                any(ZonedDateTime.class));
+        verify(dao).doStoreItemValues(eq("item0002"), anyList());
+    }
+
+    @Test
+    void resetOperationStatisticsClearsRecordedOperations() {
+        mapper.storeItemValues(List.of(entry(itemA, 1, 0)));
+        assertThat(mapper.getOperationStatistics().get(JdbcMapper.OPERATION_STORE_BATCH).count(), is(1L));
+
+        mapper.resetOperationStatistics();
+
+        assertThat(mapper.getOperationStatistics().isEmpty(), is(true));
+    }
+
+    private JdbcPersistenceEntry entry(NumberItem item, int value, int secondsLater) {
+        return new JdbcPersistenceEntry(item, new DecimalType(value), time.plusSeconds(secondsLater), null);
+    }
+}
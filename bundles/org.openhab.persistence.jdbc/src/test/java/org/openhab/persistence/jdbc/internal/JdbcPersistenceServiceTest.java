@@ -12,15 +12,31 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceEntry;
+import org.osgi.framework.BundleContext;
 
 /**
  * Tests the {@link JdbcPersistenceService}.
@@ -48,4 +64,88 @@ public class JdbcPersistenceServiceTest {
     void removeThrowsIllegalArgumentExceptionIfItemNameOfFilterIsNull() {
         assertThrows(IllegalArgumentException.class, () -> jdbcPersistenceService.remove(filter));
     }
+
+    @Test
+    void deactivateStoresAllQueuedValues() {
+        WriteQueueTestService service = new WriteQueueTestService(false);
+        service.activate(mock(BundleContext.class), Map.of());
+
+        NumberItem item = new NumberItem("Number");
+        for (int i = 0; i < 25; i++) {
+            item.setState(new DecimalType(i));
+            service.store(item);
+        }
+        service.deactivate(0);
+
+        assertThat(service.stored.size(), is(25));
+        assertThat(service.stored.get(24).state(), is(new DecimalType(24)));
+    }
+
+    @Test
+    void writerContinuesAfterUnexpectedError() throws InterruptedException {
+        WriteQueueTestService service = new WriteQueueTestService(true);
+        service.activate(mock(BundleContext.class), Map.of());
+
+        NumberItem item = new NumberItem("Number");
+        service.store(item, ZonedDateTime.now(), new DecimalType(1));
+        for (int i = 0; i < 500 && !service.failedOnce.get(); i++) {
+            Thread.sleep(10);
+        }
+        service.store(item, ZonedDateTime.now(), new DecimalType(2));
+        service.deactivate(0);
+
+        // the value of the failed flush is lost, but the writer is still running
+        assertThat(service.failedOnce.get(), is(true));
+        assertThat(service.stored.size(), is(1));
+        assertThat(service.stored.get(0).state(), is(new DecimalType(2)));
+    }
+
+    /**
+     * Stores the values of the write queue in a list instead of a database.
+     */
+    private static class WriteQueueTestService extends JdbcPersistenceService {
+        private final List<JdbcPersistenceEntry> stored = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean failedOnce = new AtomicBoolean();
+        private final boolean failFirst;
+
+        WriteQueueTestService(boolean failFirst) {
+            super(mock(ItemRegistry.class), mock(TimeZoneProvider.class));
+            this.failFirst = failFirst;
+        }
+
+        @Override
+        public void updateConfig(Map<Object, Object> configuration) {
+            JdbcConfiguration conf = mock(JdbcConfiguration.class);
+            when(conf.getQueueCapacity()).thenReturn(100);
+            when(conf.getBatchSize()).thenReturn(10);
+            when(conf.getFlushInterval()).thenReturn(1000);
+            this.conf = conf;
+            initialized = true;
+        }
+
+        @Override
+        protected boolean checkDBAccessability() {
+            return true;
+        }
+
+        @Override
+        protected void storeItemValue(Item item, State itemState, @Nullable ZonedDateTime date,
+                @Nullable String alias) {
+            failOnce();
+            stored.add(new JdbcPersistenceEntry(item, itemState, date, alias));
+        }
+
+        @Override
+        protected int storeItemValues(List<JdbcPersistenceEntry> entries) {
+            failOnce();
+            stored.addAll(entries);
+            return 0;
+        }
+
+        private void failOnce() {
+            if (failFirst && failedOnce.compareAndSet(false, true)) {
+                throw new IllegalStateException("test");
+            }
+        }
+    }
 }
@@ -66,6 +66,7 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -247,6 +248,42 @@ public class JdbcBaseDAOTest {
                         + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate())) + "'"));
     }
 
+    @Test
+    void testStoreItemValuesProviderReturnsInsertQueryWithTimeParameter() {
+        ItemVO storedVO = jdbcBaseDAO.storeItemValueProvider(new NumberItem("Number_Item"), new DecimalType(7.3),
+                new ItemVO(DB_TABLE_NAME, null));
+
+        String sql = jdbcBaseDAO.storeItemValuesProvider(storedVO);
+        assertThat(sql, is("INSERT INTO " + DB_TABLE_NAME
+                + " (time, value) VALUES( ?, ? ) ON DUPLICATE KEY UPDATE VALUE= ?"));
+    }
+
+    @Test
+    void testStoreItemValuesParamsProviderReturnsTimestampAndValues() {
+        java.sql.Timestamp timestamp = java.sql.Timestamp.valueOf("2022-01-10 15:01:44");
+        ItemVO storedVO = jdbcBaseDAO.storeItemValueProvider(new NumberItem("Number_Item"), new DecimalType(7.3),
+                new ItemVO(DB_TABLE_NAME, null));
+
+        Object[] params = jdbcBaseDAO.storeItemValuesParamsProvider(timestamp, storedVO);
+        assertThat(params, is(new Object[] { timestamp, 7.3, 7.3 }));
+    }
+
+    @Test
+    void testCachedSqlIsBuiltOncePerTableAndType() {
+        ItemVO numberVO = jdbcBaseDAO.storeItemValueProvider(new NumberItem("Number_Item"), new DecimalType(7.3),
+                new ItemVO(DB_TABLE_NAME, null));
+        ItemVO switchVO = jdbcBaseDAO.storeItemValueProvider(new SwitchItem("Switch_Item"), OnOffType.ON,
+                new ItemVO(DB_TABLE_NAME, null));
+
+        assertThat(jdbcBaseDAO.cachedSql("insert", numberVO, () -> "first"), is("first"));
+        assertThat(jdbcBaseDAO.cachedSql("insert", numberVO, () -> "second"), is("first"));
+        assertThat(jdbcBaseDAO.cachedSql("insertAt", numberVO, () -> "third"), is("third"));
+        assertThat(jdbcBaseDAO.cachedSql("insert", switchVO, () -> "fourth"), is("fourth"));
+
+        jdbcBaseDAO.clearStatementCache();
+        assertThat(jdbcBaseDAO.cachedSql("insert", numberVO, () -> "fifth"), is("fifth"));
+    }
+
     private ZonedDateTime parseDateTimeString(String dts) {
         return ZonedDateTime.of(LocalDateTime.parse(dts, DATE_PARSER), UTC_ZONE_ID);
     }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+
+/**
+ * Tests the {@link JdbcHistoricItemIterable}.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcHistoricItemIterableTest {
+
+    private final JdbcBaseDAO dao = mock(JdbcBaseDAO.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private final JdbcHistoricItemIterable.QueryListener listener = mock(JdbcHistoricItemIterable.QueryListener.class);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        when(dao.openStreamingConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getObject(1)).thenReturn(1000L, 2000L, 3000L);
+        when(resultSet.getObject(2)).thenReturn(1, 2, 3);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void fullIterationReleasesCursorAfterLastRow() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, true, false);
+
+        List<HistoricItem> items = new ArrayList<>();
+        createIterable(Duration.ofMinutes(1)).forEach(items::add);
+
+        assertThat(items.size(), is(3));
+        assertThat(items.get(2).getState(), is(new DecimalType(3)));
+        verify(resultSet).close();
+        verify(statement).close();
+        verify(connection).close();
+        verify(listener).queryFinished(anyLong(), eq(true));
+    }
+
+    @Test
+    void partialIterationReleasesCursorAfterLifetime() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, true, false);
+
+        Iterator<HistoricItem> iterator = createIterable(Duration.ofMillis(100)).iterator();
+        assertThat(iterator.next().getState(), is(new DecimalType(1)));
+
+        verify(connection, timeout(2000)).close();
+        verify(resultSet).close();
+        // reading from a released cursor fails instead of ending the iteration early
+        assertThrows(IllegalStateException.class, iterator::next);
+        verify(listener).queryFinished(anyLong(), eq(false));
+    }
+
+    @Test
+    void failingReadIsPropagated() throws SQLException {
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException("connection lost"));
+
+        Iterator<HistoricItem> iterator = createIterable(Duration.ofMinutes(1)).iterator();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> iterator.forEachRemaining(i -> {
+        }));
+        assertThat(e.getCause() instanceof SQLException, is(true));
+        verify(connection).close();
+        verify(listener).queryFinished(anyLong(), eq(false));
+    }
+
+    @Test
+    void failingQueryIsPropagated() throws SQLException {
+        when(statement.executeQuery()).thenThrow(new SQLException("syntax error"));
+
+        Iterator<HistoricItem> iterator = createIterable(Duration.ofMinutes(1)).iterator();
+
+        assertThrows(IllegalStateException.class, iterator::hasNext);
+        verify(connection).close();
+        verify(resultSet, never()).next();
+        verify(listener).queryFinished(anyLong(), eq(false));
+    }
+
+    private JdbcHistoricItemIterable createIterable(Duration maxLifetime) {
+        return new JdbcHistoricItemIterable(dao, "SELECT time, value FROM item0001", 100,
+                (time, value) -> new JdbcHistoricItem("Number", new DecimalType((Integer) value),
+                        Instant.ofEpochMilli((Long) time)),
+                scheduler, maxLifetime, listener);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jpa.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects items to be persisted and hands them over in batches, so that many items are written in one transaction.
+ *
+ * Batches are written when {@code batchSize} items are pending or when the interval elapsed, on a thread of the
+ * scheduler. At most {@value #MAX_PENDING_BATCHES} times the batch size items are kept while the database is busy,
+ * further items are dropped.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class JpaBatchWriter {
+
+    private static final int MAX_PENDING_BATCHES = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(JpaBatchWriter.class);
+
+    private final Consumer<List<JpaPersistentItem>> persister;
+    private final ScheduledExecutorService scheduler;
+    private final int batchSize;
+    private final int maxPending;
+    private final ScheduledFuture<?> flushJob;
+
+    private List<JpaPersistentItem> pending = new ArrayList<>();
+    private boolean flushScheduled = false;
+    private boolean dropping = false;
+
+    /**
+     * @param persister persists a batch of items in one transaction
+     * @param scheduler scheduler for the periodic and size triggered flushes
+     * @param batchSize number of pending items that triggers a flush and maximum size of a batch
+     * @param intervalMillis interval of the periodic flush
+     */
+    public JpaBatchWriter(Consumer<List<JpaPersistentItem>> persister, ScheduledExecutorService scheduler,
+            int batchSize, long intervalMillis) {
+        this.persister = persister;
+        this.scheduler = scheduler;
+        this.batchSize = batchSize;
+        this.maxPending = batchSize * MAX_PENDING_BATCHES;
+        this.flushJob = scheduler.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds an item to be persisted with the next batch.
+     *
+     * @param item the item to persist
+     */
+    public synchronized void add(JpaPersistentItem item) {
+        if (pending.size() >= maxPending) {
+            if (!dropping) {
+                // only log once until the pending items could be written
+                logger.warn("JPA write buffer is full ({} items), dropping items until it is written.", maxPending);
+                dropping = true;
+            }
+            return;
+        }
+        pending.add(item);
+        if (pending.size() >= batchSize && !flushScheduled) {
+            flushScheduled = true;
+            scheduler.execute(this::flush);
+        }
+    }
+
+    /**
+     * Persists all pending items.
+     */
+    public void flush() {
+        List<JpaPersistentItem> items;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            items = pending;
+            pending = new ArrayList<>();
+            dropping = false;
+        }
+
+        for (int from = 0; from < items.size(); from += batchSize) {
+            List<JpaPersistentItem> batch = items.subList(from, Math.min(items.size(), from + batchSize));
+            try {
+                persister.accept(batch);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to persist {} items: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops the periodic flush and persists all pending items.
+     */
+    public void close() {
+        flushJob.cancel(false);
+        flush();
+    }
+}
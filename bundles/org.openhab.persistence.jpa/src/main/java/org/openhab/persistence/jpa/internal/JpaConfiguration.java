@@ -16,6 +16,7 @@ import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.ConfigParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,12 +36,18 @@ public class JpaConfiguration {
     private static final String CFG_USERNAME = "user";
     private static final String CFG_PASSWORD = "password";
     private static final String CFG_SYNCMAPPING = "syncmappings";
+    private static final String CFG_BATCH_SIZE = "batchSize";
+    private static final String CFG_BATCH_INTERVAL = "batchInterval";
+
+    private static final int DEFAULT_BATCH_INTERVAL = 1000;
 
     public final String dbConnectionUrl;
     public final String dbDriverClass;
     public final String dbUserName;
     public final String dbPassword;
     public final String dbSyncMapping;
+    public final int batchSize;
+    public final int batchInterval;
 
     public JpaConfiguration(final Map<String, @Nullable Object> properties) throws IllegalArgumentException {
         logger.debug("Creating JPA config...");
@@ -81,6 +88,11 @@ public class JpaConfiguration {
         }
         dbSyncMapping = param == null ? "" : param;
 
+        batchSize = Math.max(0, ConfigParser.valueAsOrElse(properties.get(CFG_BATCH_SIZE), Integer.class, 0));
+        batchInterval = Math.max(1, ConfigParser.valueAsOrElse(properties.get(CFG_BATCH_INTERVAL), Integer.class,
+                DEFAULT_BATCH_INTERVAL));
+        logger.debug("batch size: {}, batch interval: {} ms", batchSize, batchInterval);
+
         logger.debug("Creating JPA config... done");
     }
 }
@@ -16,9 +16,7 @@ import java.text.DateFormat;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import javax.measure.Unit;
 
@@ -45,7 +43,6 @@ import org.openhab.core.library.unit.Units;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
-import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -95,57 +92,46 @@ public class JpaHistoricItem implements HistoricItem {
     }
 
     /**
-     * This method maps {@link JpaPersistentItem}s to {@link HistoricItem}s.
+     * Converts a persisted string value to the state of a {@link HistoricItem}.
      *
-     * @param jpaQueryResult the result with jpa items
-     * @param item used for query information, like the state (State)
-     * @return list of historic items
-     */
-    public static List<HistoricItem> fromResultList(List<JpaPersistentItem> jpaQueryResult, Item item) {
-        return jpaQueryResult.stream().map(pItem -> fromPersistedItem(pItem, item)).filter(Objects::nonNull)
-                .map(Objects::requireNonNull).collect(Collectors.toList());
-    }
-
-    /**
-     * Converts the string value of the persisted item to the state of a {@link HistoricItem}.
-     *
-     * @param pItem the persisted {@link JpaPersistentItem}
+     * @param value the persisted string value
+     * @param instant the timestamp of the value
      * @param item the source reference Item
      * @return historic item
      */
-    public static @Nullable HistoricItem fromPersistedItem(JpaPersistentItem pItem, Item item) {
+    public static @Nullable HistoricItem fromPersistedValue(String value, Instant instant, Item item) {
         State state;
         if (item instanceof NumberItem numberItem) {
             Unit<?> unit = numberItem.getUnit();
-            QuantityType<?> value = QuantityType.valueOf(pItem.getValue());
+            QuantityType<?> quantity = QuantityType.valueOf(value);
             if (unit == null) {
                 // Item has no unit; drop any persisted unit
-                state = Objects.requireNonNull(value.as(DecimalType.class));
-            } else if (value.getUnit() == Units.ONE) {
+                state = Objects.requireNonNull(quantity.as(DecimalType.class));
+            } else if (quantity.getUnit() == Units.ONE) {
                 // No persisted unit; assume the item's unit
-                state = new QuantityType<>(value.toBigDecimal(), unit);
+                state = new QuantityType<>(quantity.toBigDecimal(), unit);
             } else {
                 // Ensure we return in the item's unit
-                state = value.toUnit(unit);
+                state = quantity.toUnit(unit);
                 if (state == null) {
-                    LOGGER.warn("Persisted state {} for item {} is incompatible with item's unit {}; ignoring", value,
-                            item.getName(), unit);
+                    LOGGER.warn("Persisted state {} for item {} is incompatible with item's unit {}; ignoring",
+                            quantity, item.getName(), unit);
                     return null;
                 }
             }
         } else if (item instanceof DimmerItem) {
-            state = new PercentType(Integer.parseInt(pItem.getValue()));
+            state = new PercentType(Integer.parseInt(value));
         } else if (item instanceof SwitchItem) {
-            state = OnOffType.valueOf(pItem.getValue());
+            state = OnOffType.valueOf(value);
         } else if (item instanceof ContactItem) {
-            state = OpenClosedType.valueOf(pItem.getValue());
+            state = OpenClosedType.valueOf(value);
         } else if (item instanceof RollershutterItem) {
-            state = PercentType.valueOf(pItem.getValue());
+            state = PercentType.valueOf(value);
         } else if (item instanceof DateTimeItem) {
-            state = new DateTimeType(Instant.ofEpochMilli(Long.parseLong(pItem.getValue())));
+            state = new DateTimeType(Instant.ofEpochMilli(Long.parseLong(value)));
         } else if (item instanceof LocationItem) {
             PointType pType = null;
-            String[] comps = pItem.getValue().split(";");
+            String[] comps = value.split(";");
             if (comps.length >= 2) {
                 pType = new PointType(new DecimalType(comps[0]), new DecimalType(comps[1]));
 
@@ -155,11 +141,11 @@ public class JpaHistoricItem implements HistoricItem {
             }
             state = pType == null ? UnDefType.UNDEF : pType;
         } else if (item instanceof StringListType) {
-            state = new StringListType(pItem.getValue());
+            state = new StringListType(value);
         } else {
-            state = new StringType(pItem.getValue());
+            state = new StringType(value);
         }
 
-        return new JpaHistoricItem(item.getName(), state, pItem.getInstant());
+        return new JpaHistoricItem(item.getName(), state, instant);
     }
 }
@@ -17,10 +17,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -47,12 +50,13 @@ import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
-import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 
 /**
  * JPA based implementation of QueryablePersistenceService.
  *
  * @author Manfred Bergmann - Initial contribution
+ * @author Julio Gesser - Batched writes and projection queries
  */
 @NonNullByDefault
 @Component(service = { PersistenceService.class,
@@ -64,6 +68,7 @@ public class JpaPersistenceService implements QueryablePersistenceService {
     private static final String SERVICE_ID = "jpa";
     private static final String SERVICE_LABEL = "JPA";
     protected static final String CONFIG_URI = "persistence:jpa";
+    private static final String THREADPOOL_NAME = "jpaPersistenceService";
 
     private final Logger logger = LoggerFactory.getLogger(JpaPersistenceService.class);
 
@@ -75,6 +80,8 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
     private boolean initialized;
 
+    private @Nullable JpaBatchWriter batchWriter;
+
     @Activate
     public JpaPersistenceService(BundleContext context, Map<String, @Nullable Object> properties,
             final @Reference ItemRegistry itemRegistry) {
@@ -83,6 +90,10 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         try {
             config = new JpaConfiguration(properties);
             initialized = true;
+            if (config.batchSize > 0) {
+                batchWriter = new JpaBatchWriter(this::persist, ThreadPoolManager.getScheduledPool(THREADPOOL_NAME),
+                        config.batchSize, config.batchInterval);
+            }
         } catch (IllegalArgumentException e) {
             logger.warn("{}", e.getMessage());
         }
@@ -108,6 +119,11 @@ public class JpaPersistenceService implements QueryablePersistenceService {
     @Deactivate
     public void deactivate() {
         logger.debug("Deactivating JPA persistence service");
+        JpaBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            this.batchWriter = null;
+            batchWriter.close();
+        }
         closeEntityManagerFactory();
     }
 
@@ -156,28 +172,73 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         pItem.setRealName(item.getName());
         pItem.setTimestamp(new Date());
 
+        JpaBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            batchWriter.add(pItem);
+            logger.debug("Storing item...queued");
+            return;
+        }
+
+        persist(List.of(pItem));
+        logger.debug("Storing item...done");
+    }
+
+    /**
+     * Persists the given items in one transaction. If the transaction fails because of a duplicate timestamp, the
+     * items are persisted one by one, so that only the duplicate is lost.
+     *
+     * @param items the items to persist
+     */
+    private void persist(List<JpaPersistentItem> items) {
         EntityManager em = getEntityManagerFactory().createEntityManager();
         try {
-            logger.debug("Persisting item...");
+            logger.debug("Persisting {} items...", items.size());
             // In RESOURCE_LOCAL calls to EntityManager require a begin/commit
             em.getTransaction().begin();
-            em.persist(pItem);
+            for (JpaPersistentItem pItem : items) {
+                em.persist(pItem);
+            }
             em.getTransaction().commit();
-            logger.debug("Persisting item...done");
+            logger.debug("Persisting {} items...done", items.size());
         } catch (Exception e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
             if (e.getCause() instanceof EntityExistsException) {
                 // there's a UNIQUE constraint in the database, and we tried to write
                 // a duplicate timestamp. Just ignore
-                logger.debug("Failed to persist item {} because of duplicate timestamp", name);
+                if (items.size() > 1) {
+                    // the failed transaction may have assigned ids, so retry with fresh copies
+                    items.forEach(pItem -> persist(List.of(copyOf(pItem))));
+                } else {
+                    logger.debug("Failed to persist item {} because of duplicate timestamp",
+                            items.getFirst().getName());
+                }
             } else {
-                logger.error("Error while persisting item! Rolling back!", e);
+                logger.error("Error while persisting {} items! Rolling back!", items.size(), e);
             }
-            em.getTransaction().rollback();
         } finally {
             em.close();
         }
+    }
 
-        logger.debug("Storing item...done");
+    private static JpaPersistentItem copyOf(JpaPersistentItem pItem) {
+        JpaPersistentItem copy = new JpaPersistentItem();
+        copy.setName(pItem.getName());
+        copy.setRealName(pItem.getRealName());
+        copy.setTimestamp(Date.from(pItem.getInstant()));
+        copy.setValue(pItem.getValue());
+        return copy;
+    }
+
+    /**
+     * Persists the items waiting for a batch, so that they are included in queries.
+     */
+    private void flushBatchWriter() {
+        JpaBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            batchWriter.flush();
+        }
     }
 
     @Override
@@ -210,6 +271,8 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             return List.of();
         }
 
+        flushBatchWriter();
+
         String sortOrder;
         if (filter.getOrdering() == Ordering.ASCENDING) {
             sortOrder = "ASC";
@@ -219,7 +282,8 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
         boolean hasBeginDate = false;
         boolean hasEndDate = false;
-        String queryString = "SELECT n FROM " + JpaPersistentItem.class.getSimpleName()
+        // only select the columns needed for the historic items instead of materializing the entities
+        String queryString = "SELECT n.timestamp, n.value FROM " + JpaPersistentItem.class.getSimpleName()
                 + " n WHERE n.realName = :itemName";
         if (filter.getBeginDate() != null) {
             queryString += " AND n.timestamp >= :beginDate";
@@ -239,7 +303,7 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             em.getTransaction().begin();
 
             logger.debug("Creating query...");
-            Query query = em.createQuery(queryString);
+            TypedQuery<Object[]> query = em.createQuery(queryString, Object[].class);
             query.setParameter("itemName", alias != null ? alias : item.getName());
             if (hasBeginDate) {
                 query.setParameter("beginDate", Date.from(filter.getBeginDate().toInstant()));
@@ -252,13 +316,14 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             query.setMaxResults(filter.getPageSize());
             logger.debug("Creating query...done");
 
-            logger.debug("Retrieving result list...");
-            @SuppressWarnings("unchecked")
-            List<JpaPersistentItem> result = query.getResultList();
-            logger.debug("Retrieving result list...done");
-
-            List<HistoricItem> historicList = JpaHistoricItem.fromResultList(result, item);
-            logger.debug("Convert to HistoricItem: {}", historicList.size());
+            logger.debug("Retrieving result...");
+            List<HistoricItem> historicList;
+            try (Stream<Object[]> result = query.getResultStream()) {
+                historicList = result.map(row -> JpaHistoricItem.fromPersistedValue((String) row[1],
+                        ((Date) row[0]).toInstant(), item)).filter(Objects::nonNull).map(Objects::requireNonNull)
+                        .toList();
+            }
+            logger.debug("Retrieving result...done, converted to {} HistoricItems", historicList.size());
 
             em.getTransaction().commit();
 
@@ -297,6 +362,10 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             logger.info("You are setting openjpa.jdbc.SynchronizeMappings, I hope you know what you're doing!");
             properties.put("openjpa.jdbc.SynchronizeMappings", config.dbSyncMapping);
         }
+        if (config.batchSize > 0) {
+            // send the inserts of a batch to the database with JDBC statement batching
+            properties.put("openjpa.jdbc.DBDictionary", "batchLimit=" + config.batchSize);
+        }
 
         EntityManagerFactory factory = Persistence.createEntityManagerFactory(getPersistenceUnitName(), properties);
         logger.debug("Creating EntityManagerFactory...done");
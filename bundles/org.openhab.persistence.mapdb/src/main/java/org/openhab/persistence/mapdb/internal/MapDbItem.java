@@ -82,6 +82,10 @@ class MapDbItem implements PersistedItem, PersistenceItemInfo {
                 : null;
     }
 
+    @Nullable Date getLastStateChangeDate() {
+        return lastStateChange;
+    }
+
     void setLastStateChange(@Nullable Date lastStateChange) {
         this.lastStateChange = lastStateChange;
     }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+
+/**
+ * Binary serialization of {@link MapDbItem}s. States are written as their type and full string representation, like
+ * the {@link StateTypeAdapter} does for JSON, but without the overhead of building and parsing a JSON document.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+class MapDbItemSerializer {
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final Map<String, Class<? extends State>> STATE_TYPES = new ConcurrentHashMap<>();
+
+    private MapDbItemSerializer() {
+        // prevent instantiation
+    }
+
+    static byte[] serialize(MapDbItem item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(FORMAT_VERSION);
+        writeString(out, item.getName());
+        out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+        writeState(out, item.getState());
+        State lastState = item.getLastState();
+        out.writeBoolean(lastState != null);
+        if (lastState != null) {
+            writeState(out, lastState);
+        }
+        Date lastStateChange = item.getLastStateChangeDate();
+        out.writeBoolean(lastStateChange != null);
+        if (lastStateChange != null) {
+            out.writeLong(lastStateChange.getTime());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static MapDbItem deserialize(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+        MapDbItem item = new MapDbItem();
+        item.setName(readString(in));
+        item.setTimestamp(new Date(in.readLong()));
+        item.setState(readState(in));
+        if (in.readBoolean()) {
+            item.setLastState(readState(in));
+        }
+        if (in.readBoolean()) {
+            item.setLastStateChange(new Date(in.readLong()));
+        }
+        return item;
+    }
+
+    private static void writeState(DataOutputStream out, State state) throws IOException {
+        writeString(out, state.getClass().getName());
+        writeString(out, state.toFullString());
+    }
+
+    private static State readState(DataInputStream in) throws IOException {
+        String typeName = readString(in);
+        String value = readString(in);
+        State state = TypeParser.parseState(List.of(getStateType(typeName)), value);
+        if (state == null) {
+            throw new IOException("Cannot parse '" + value + "' as " + typeName);
+        }
+        return state;
+    }
+
+    private static Class<? extends State> getStateType(String typeName) throws IOException {
+        Class<? extends State> type = STATE_TYPES.get(typeName);
+        if (type == null) {
+            try {
+                type = Class.forName(typeName).asSubclass(State.class);
+            } catch (ClassNotFoundException | ClassCastException e) {
+                throw new IOException("Unknown state type " + typeName, e);
+            }
+            STATE_TYPES.put(typeName, type);
+        }
+        return type;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
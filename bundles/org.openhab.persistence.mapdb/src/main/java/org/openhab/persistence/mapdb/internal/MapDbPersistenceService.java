@@ -20,12 +20,18 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,8 +39,11 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.mapdb.DB;
 import org.mapdb.DBMaker;
+import org.mapdb.Serializer;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -50,6 +59,7 @@ import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,17 +72,39 @@ import com.google.gson.GsonBuilder;
  *
  * @author Jens Viebig - Initial contribution
  * @author Martin Kühl - Port to 3.x
+ * @author Julio Gesser - Coalesced commits and binary item serialization
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", //
+        property = Constants.SERVICE_PID + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
-    private static final String SERVICE_ID = "mapdb";
+    public static final String SERVICE_ID = "mapdb";
     private static final String SERVICE_LABEL = "MapDB";
+    protected static final String CONFIG_URI = "persistence:mapdb";
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
+    private static final String ITEM_STORE = "items";
+    private static final String JSON_ITEM_STORE = "itemStore";
+
+    private static final String COMMIT_INTERVAL_PARAM = "commitInterval";
+    private static final String COMMIT_THRESHOLD_PARAM = "commitThreshold";
+    private static final int DEFAULT_COMMIT_INTERVAL = 5;
+    private static final int DEFAULT_COMMIT_THRESHOLD = 100;
+
+    /**
+     * Statistics of the commits to the database.
+     *
+     * @param pending the number of items waiting for the next commit
+     * @param commits the number of commits
+     * @param stored the number of item states written to the database
+     * @param coalesced the number of item states replaced by a newer state before they were committed
+     */
+    public record CommitStatistics(int pending, long commits, long stored, long coalesced) {
+    }
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
@@ -83,13 +115,22 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
      */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> map;
+
+    /**
+     * holds the serialized item states that are not yet committed, newer states replace older ones
+     */
+    private final Map<String, byte[]> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean commitRequested = new AtomicBoolean();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder stored = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
 
-    private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
-            .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
+    private volatile int commitThreshold = DEFAULT_COMMIT_THRESHOLD;
+    private @Nullable ScheduledFuture<?> commitJob;
 
     @Activate
-    public void activate() {
+    public void activate(Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
 
         try {
@@ -102,8 +143,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
-            db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            openDatabase(dbFile);
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException cnf) {
@@ -134,24 +174,85 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                     return;
                 }
 
-                db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                openDatabase(dbFile);
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
             }
         }
+        configureCommits(config);
         logger.debug("MapDB persistence service is now activated");
     }
 
+    @Modified
+    public void modified(Map<String, Object> config) {
+        configureCommits(config);
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
+        ScheduledFuture<?> job = commitJob;
+        if (job != null) {
+            job.cancel(false);
+            commitJob = null;
+        }
         if (db != null) {
+            commit();
             db.close();
         }
     }
 
+    private void openDatabase(File dbFile) {
+        db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
+        map = db.createTreeMap(ITEM_STORE).valueSerializer(Serializer.BYTE_ARRAY).makeOrGet();
+        if (db.exists(JSON_ITEM_STORE)) {
+            migrateJsonItemStore();
+        }
+    }
+
+    /**
+     * Converts the item states stored as JSON by previous versions to the binary format.
+     */
+    private void migrateJsonItemStore() {
+        Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
+                .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
+        Map<String, String> jsonMap = db.getTreeMap(JSON_ITEM_STORE);
+        int migrated = 0;
+        for (Map.Entry<String, String> entry : jsonMap.entrySet()) {
+            try {
+                MapDbItem item = mapper.fromJson(entry.getValue(), MapDbItem.class);
+                if (item != null && item.isValid()) {
+                    map.put(entry.getKey(), MapDbItemSerializer.serialize(item));
+                    migrated++;
+                } else {
+                    logger.warn("Skipping invalid item '{}' during migration: {}", entry.getKey(), entry.getValue());
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Skipping item '{}' during migration: {}", entry.getKey(), e.getMessage());
+            }
+        }
+        db.delete(JSON_ITEM_STORE);
+        db.commit();
+        logger.info("Migrated {} items of the MapDB to the binary storage format", migrated);
+    }
+
+    private void configureCommits(Map<String, Object> config) {
+        int interval = ConfigParser.valueAsOrElse(config.get(COMMIT_INTERVAL_PARAM), Integer.class,
+                DEFAULT_COMMIT_INTERVAL);
+        int threshold = ConfigParser.valueAsOrElse(config.get(COMMIT_THRESHOLD_PARAM), Integer.class,
+                DEFAULT_COMMIT_THRESHOLD);
+        commitThreshold = Math.max(1, threshold);
+
+        ScheduledFuture<?> job = commitJob;
+        if (job != null) {
+            job.cancel(false);
+        }
+        commitJob = interval > 0 ? ThreadPoolManager.getScheduledPool(getClass().getSimpleName())
+                .scheduleWithFixedDelay(this::commit, interval, interval, TimeUnit.SECONDS) : null;
+        logger.debug("MapDB commits every {}s or after {} changed items", interval, commitThreshold);
+    }
+
     @Override
     public String getId() {
         return SERVICE_ID;
@@ -164,7 +265,9 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
+        Map<String, byte[]> items = new HashMap<>(map);
+        items.putAll(pending);
+        return items.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
                 .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
     }
 
@@ -192,31 +295,69 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setTimestamp(lastStateUpdate != null ? Date.from(lastStateUpdate.toInstant()) : new Date());
         ZonedDateTime lastStateChange = item.getLastStateChange();
         mItem.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
-        threadPool.submit(() -> {
-            String json = serialize(mItem);
-            map.put(localAlias, json);
-            db.commit();
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
-        });
+        byte[] data;
+        try {
+            data = MapDbItemSerializer.serialize(mItem);
+        } catch (IOException e) {
+            logger.warn("Failed to serialize '{}' with state '{}': {}", localAlias, state, e.getMessage());
+            return;
+        }
+        if (pending.put(localAlias, data) != null) {
+            coalesced.increment();
+        }
+        logger.debug("Queued '{}' with state '{}' for the next MapDB commit", localAlias, state);
+        if (pending.size() >= commitThreshold && commitRequested.compareAndSet(false, true)) {
+            threadPool.submit(this::commit);
+        }
+    }
+
+    /**
+     * Writes all pending item states to the database in a single transaction.
+     */
+    private synchronized void commit() {
+        commitRequested.set(false);
+        if (pending.isEmpty() || db == null || db.isClosed()) {
+            return;
+        }
+        int count = 0;
+        for (Map.Entry<String, byte[]> entry : pending.entrySet()) {
+            String name = entry.getKey();
+            byte[] data = entry.getValue();
+            map.put(name, data);
+            // keep the entry if it was replaced in the meantime, it is written with the next commit
+            pending.remove(name, data);
+            count++;
+        }
+        db.commit();
+        commits.increment();
+        stored.add(count);
+        logger.debug("Committed {} items to MapDB database", count);
+    }
+
+    /**
+     * @return statistics of the commits to the database
+     */
+    public CommitStatistics getCommitStatistics() {
+        return new CommitStatistics(pending.size(), commits.sum(), stored.sum(), coalesced.sum());
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
+        byte[] data = get(filter.getItemName());
+        if (data == null) {
             return List.of();
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = deserialize(data);
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
+        byte[] data = get(alias != null ? alias : itemName);
+        if (data == null) {
             return null;
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = deserialize(data);
         MapDbItem dbItem = item.orElse(null);
         if (dbItem != null) {
             dbItem.setName(itemName);
@@ -224,21 +365,25 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return dbItem;
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    private byte @Nullable [] get(@Nullable String name) {
+        if (name == null) {
+            return null;
+        }
+        byte[] data = pending.get(name);
+        return data != null ? data : map.get(name);
     }
 
-    @SuppressWarnings("null")
-    private Optional<MapDbItem> deserialize(String json) {
-        MapDbItem item = mapper.fromJson(json, MapDbItem.class);
-        if (item == null || !item.isValid()) {
-            logger.warn("Deserialized invalid item: {}", item);
+    private Optional<MapDbItem> deserialize(byte[] data) {
+        try {
+            MapDbItem item = MapDbItemSerializer.deserialize(data);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Deserialized '{}' with state '{}'", item.getName(), item.getState());
+            }
+            return Optional.of(item);
+        } catch (IOException e) {
+            logger.warn("Deserialized invalid item: {}", e.getMessage());
             return Optional.empty();
-        } else if (logger.isDebugEnabled()) {
-            logger.debug("Deserialized '{}' with state '{}' from '{}'", item.getName(), item.getState(), json);
         }
-
-        return Optional.of(item);
     }
 
     private static <T> Stream<T> streamOptional(Optional<T> opt) {
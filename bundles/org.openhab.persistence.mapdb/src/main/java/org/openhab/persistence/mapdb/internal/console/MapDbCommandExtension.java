@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceServiceRegistry;
+import org.openhab.persistence.mapdb.internal.MapDbPersistenceService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link MapDbCommandExtension} is responsible for handling console commands
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class MapDbCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String CMD_STATISTICS = "statistics";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_STATISTICS), false);
+
+    private final PersistenceServiceRegistry persistenceServiceRegistry;
+
+    @Activate
+    public MapDbCommandExtension(final @Reference PersistenceServiceRegistry persistenceServiceRegistry) {
+        super(MapDbPersistenceService.SERVICE_ID, "Interact with the MapDB persistence service.");
+        this.persistenceServiceRegistry = persistenceServiceRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        MapDbPersistenceService persistenceService = getPersistenceService();
+        if (persistenceService == null) {
+            console.println("No MapDB persistence service installed.");
+            return;
+        }
+        if (args.length == 1 && CMD_STATISTICS.equalsIgnoreCase(args[0])) {
+            MapDbPersistenceService.CommitStatistics statistics = persistenceService.getCommitStatistics();
+            console.println("Items waiting for the next commit: " + statistics.pending());
+            console.println("Commits: " + statistics.commits());
+            console.println("Items written: " + statistics.stored() + " (coalesced: " + statistics.coalesced() + ")");
+            return;
+        }
+        printUsage(console);
+    }
+
+    private @Nullable MapDbPersistenceService getPersistenceService() {
+        for (PersistenceService persistenceService : persistenceServiceRegistry.getAll()) {
+            if (persistenceService instanceof MapDbPersistenceService service) {
+                return service;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(CMD_STATISTICS, "show statistics of the commits to the database"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.types.State;
+
+/**
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemSerializerTest {
+
+    @ParameterizedTest
+    @MethodSource
+    public void serializeDeserializeRoundtripShouldRecreateTheItem(State state) throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("item");
+        item.setState(state);
+        item.setTimestamp(new Date(1_700_000_000_123L));
+
+        MapDbItem actual = MapDbItemSerializer.deserialize(MapDbItemSerializer.serialize(item));
+
+        assertThat(actual.getName(), is("item"));
+        assertThat(actual.getState(), is(equalTo(state)));
+        assertThat(actual.getTimestamp(), is(item.getTimestamp()));
+        assertThat(actual.getLastState(), is(nullValue()));
+        assertThat(actual.getLastStateChange(), is(nullValue()));
+    }
+
+    public static Stream<State> serializeDeserializeRoundtripShouldRecreateTheItem() {
+        return Stream.of(new DecimalType(1.123), HSBType.fromRGB(11, 22, 33), OnOffType.ON,
+                PercentType.valueOf("99.999"), new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS),
+                StringType.valueOf("@@@ äöü"), StringType.valueOf(""));
+    }
+
+    @Test
+    public void lastStateAndLastStateChangeShouldBeRecreated() throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("switch");
+        item.setState(OnOffType.ON);
+        item.setLastState(OnOffType.OFF);
+        item.setLastStateChange(new Date(1_700_000_000_000L));
+
+        MapDbItem actual = MapDbItemSerializer.deserialize(MapDbItemSerializer.serialize(item));
+
+        assertThat(actual.getLastState(), is(OnOffType.OFF));
+        assertThat(actual.getLastStateChange(), is(item.getLastStateChange()));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.WriteConcernError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+
+/**
+ * Collects documents and inserts them with unordered bulk inserts, one per collection.
+ *
+ * Documents are written when {@code bulkSize} documents are pending or when the interval elapsed, on a thread of the
+ * scheduler. If the database is not available, the documents are kept and written with the next flush, up to
+ * {@value #MAX_PENDING_BULKS} times the bulk size. Further documents are dropped.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBBulkWriter {
+
+    private static final int MAX_PENDING_BULKS = 10;
+    private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+
+    private final Logger logger = LoggerFactory.getLogger(MongoDBBulkWriter.class);
+
+    private final Function<String, @Nullable MongoCollection<Document>> collectionProvider;
+    private final ScheduledExecutorService scheduler;
+    private final int bulkSize;
+    private final int maxPending;
+    private final ScheduledFuture<?> flushJob;
+
+    private Map<String, List<Document>> pending = new LinkedHashMap<>();
+    private int pendingCount = 0;
+    private boolean flushScheduled = false;
+    private boolean dropping = false;
+
+    /**
+     * @param collectionProvider provides the collection with the given name, or null if the database is not available
+     * @param scheduler scheduler for the periodic and size triggered flushes
+     * @param bulkSize number of pending documents that triggers a flush
+     * @param intervalMillis interval of the periodic flush
+     */
+    public MongoDBBulkWriter(Function<String, @Nullable MongoCollection<Document>> collectionProvider,
+            ScheduledExecutorService scheduler, int bulkSize, long intervalMillis) {
+        this.collectionProvider = collectionProvider;
+        this.scheduler = scheduler;
+        this.bulkSize = bulkSize;
+        this.maxPending = bulkSize * MAX_PENDING_BULKS;
+        this.flushJob = scheduler.scheduleWithFixedDelay(this::scheduledFlush, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds a document to be inserted into the given collection.
+     *
+     * @param collectionName the name of the collection
+     * @param document the document to insert
+     */
+    public synchronized void add(String collectionName, Document document) {
+        if (pendingCount >= maxPending) {
+            if (!dropping) {
+                // only log once until documents could be written again
+                logger.warn("MongoDB write buffer is full ({} documents), dropping documents until it is written.",
+                        maxPending);
+                dropping = true;
+            }
+            return;
+        }
+        pending.computeIfAbsent(collectionName, name -> new ArrayList<>()).add(document);
+        pendingCount++;
+        if (pendingCount >= bulkSize && !flushScheduled) {
+            flushScheduled = true;
+            scheduler.execute(this::scheduledFlush);
+        }
+    }
+
+    /**
+     * Inserts all pending documents.
+     */
+    public void flush() {
+        Map<String, List<Document>> documents;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            documents = pending;
+            pending = new LinkedHashMap<>();
+            pendingCount = 0;
+            dropping = false;
+        }
+
+        for (Map.Entry<String, List<Document>> entry : documents.entrySet()) {
+            String collectionName = entry.getKey();
+            List<Document> collectionDocuments = entry.getValue();
+            try {
+                MongoCollection<Document> collection = collectionProvider.apply(collectionName);
+                if (collection == null) {
+                    requeue(collectionName, collectionDocuments);
+                    continue;
+                }
+                collection.insertMany(collectionDocuments, UNORDERED);
+                logger.debug("MongoDB inserted {} documents into {}", collectionDocuments.size(), collectionName);
+            } catch (MongoBulkWriteException e) {
+                // unordered: all documents but the failed ones were written
+                if (!e.getWriteErrors().isEmpty()) {
+                    logger.warn("MongoDB failed to insert {} of {} documents into {}: {}", e.getWriteErrors().size(),
+                            collectionDocuments.size(), collectionName, e.getWriteErrors().getFirst().getMessage());
+                }
+                WriteConcernError writeConcernError = e.getWriteConcernError();
+                if (writeConcernError != null) {
+                    // the documents were inserted, but not acknowledged as requested by the write concern
+                    logger.warn("MongoDB inserted {} documents into {} without the requested write concern: {}",
+                            collectionDocuments.size() - e.getWriteErrors().size(), collectionName,
+                            writeConcernError.getMessage());
+                }
+            } catch (RuntimeException e) {
+                logger.warn("MongoDB failed to insert {} documents into {}, retrying later: {}",
+                        collectionDocuments.size(), collectionName, e.getMessage());
+                requeue(collectionName, collectionDocuments);
+            }
+        }
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // an exception would cancel the periodic flush
+            logger.warn("MongoDB failed to flush the write buffer: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stops the periodic flush and inserts all pending documents.
+     */
+    public void close() {
+        flushJob.cancel(false);
+        flush();
+        synchronized (this) {
+            if (pendingCount > 0) {
+                logger.warn("MongoDB could not write {} documents before shutdown.", pendingCount);
+            }
+        }
+    }
+
+    private synchronized void requeue(String collectionName, List<Document> documents) {
+        int kept = Math.min(documents.size(), maxPending - pendingCount);
+        if (kept > 0) {
+            pending.computeIfAbsent(collectionName, name -> new ArrayList<>()).addAll(documents.subList(0, kept));
+            pendingCount += kept;
+        }
+        if (kept < documents.size()) {
+            logger.warn("MongoDB write buffer is full, dropping {} documents for {}.", documents.size() - kept,
+                    collectionName);
+        }
+    }
+}
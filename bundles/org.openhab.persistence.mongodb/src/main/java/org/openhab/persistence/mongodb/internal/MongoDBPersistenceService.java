@@ -20,11 +20,14 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -50,10 +53,15 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.MongoCommandException;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.TimeSeriesGranularity;
+import com.mongodb.client.model.TimeSeriesOptions;
 import com.mongodb.client.result.DeleteResult;
 
 /**
@@ -62,6 +70,7 @@ import com.mongodb.client.result.DeleteResult;
  * @author Thorsten Hoeger - Initial contribution
  * @author Stephan Brunner - Query fixes, Cleanup
  * @author René Ulbricht - Fixes type handling, driver update and cleanup
+ * @author Julio Gesser - Bulk inserts and time series collections
  */
 @NonNullByDefault
 @Component(service = { PersistenceService.class, QueryablePersistenceService.class,
@@ -69,12 +78,22 @@ import com.mongodb.client.result.DeleteResult;
                 + "=org.openhab.mongodb")
 public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
+    private static final String THREADPOOL_NAME = "mongodbPersistenceService";
+    private static final long DEFAULT_BULK_INTERVAL_MILLIS = 1000;
+    // MongoDB error code if a collection already exists
+    private static final int NAMESPACE_EXISTS = 48;
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url = "";
     private String db = "";
     private String collection = "";
     private boolean collectionPerItem;
+    private boolean timeSeries;
+
+    // collections that have been prepared (index and time series) since connecting
+    private final Map<String, MongoCollection<Document>> collections = new ConcurrentHashMap<>();
+    private @Nullable MongoDBBulkWriter bulkWriter;
 
     private boolean initialized = false;
 
@@ -113,6 +132,18 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        timeSeries = ConfigParser.valueAsOrElse(config.get("timeSeries"), Boolean.class, false);
+        logger.debug("MongoDB time series collections {}", timeSeries);
+
+        int bulkSize = ConfigParser.valueAsOrElse(config.get("bulkSize"), Integer.class, 0);
+        long bulkInterval = ConfigParser.valueAsOrElse(config.get("bulkInterval"), Long.class,
+                DEFAULT_BULK_INTERVAL_MILLIS);
+        if (bulkSize > 0) {
+            logger.debug("MongoDB bulk inserts of {} documents or every {} ms", bulkSize, bulkInterval);
+            bulkWriter = new MongoDBBulkWriter(this::getBulkCollection,
+                    ThreadPoolManager.getScheduledPool(THREADPOOL_NAME), bulkSize, Math.max(1, bulkInterval));
+        }
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
         }
@@ -123,6 +154,11 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        MongoDBBulkWriter localBulkWriter = bulkWriter;
+        if (localBulkWriter != null) {
+            bulkWriter = null;
+            localBulkWriter.close();
+        }
         disconnectFromDatabase();
     }
 
@@ -211,6 +247,10 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
      * @return The collection object when collection creation was successful. Null otherwise.
      */
     private @Nullable MongoCollection<Document> connectToCollection(String collectionName) {
+        MongoCollection<Document> cachedCollection = collections.get(collectionName);
+        if (cachedCollection != null) {
+            return cachedCollection;
+        }
         try {
             @Nullable
             MongoClient db = getDatabase();
@@ -220,12 +260,17 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
                 return null;
             }
 
-            MongoCollection<Document> mongoCollection = db.getDatabase(this.db).getCollection(collectionName);
+            MongoDatabase database = db.getDatabase(this.db);
+            if (timeSeries) {
+                createTimeSeriesCollection(database, collectionName);
+            }
+            MongoCollection<Document> mongoCollection = database.getCollection(collectionName);
 
             Document idx = new Document();
             idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
             mongoCollection.createIndex(idx);
 
+            collections.put(collectionName, mongoCollection);
             return mongoCollection;
         } catch (Exception e) {
             logger.error("Failed to connect to collection {}: {}", collectionName, e.getMessage(), e);
@@ -233,6 +278,49 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
     }
 
+    /**
+     * Creates a time series collection with the timestamp as time field and the item name as meta field, unless the
+     * collection already exists. Existing regular collections cannot be converted and are used as they are.
+     */
+    private void createTimeSeriesCollection(MongoDatabase database, String collectionName) {
+        if (database.listCollectionNames().into(new ArrayList<>()).contains(collectionName)) {
+            return;
+        }
+        try {
+            database.createCollection(collectionName,
+                    new CreateCollectionOptions().timeSeriesOptions(new TimeSeriesOptions(MongoDBFields.FIELD_TIMESTAMP)
+                            .metaField(MongoDBFields.FIELD_ITEM).granularity(TimeSeriesGranularity.SECONDS)));
+            logger.debug("Created time series collection {}", collectionName);
+        } catch (MongoCommandException e) {
+            // created concurrently by another thread
+            if (e.getErrorCode() != NAMESPACE_EXISTS) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Provides the collections to the bulk writer, connecting to the database if needed.
+     */
+    private @Nullable MongoCollection<Document> getBulkCollection(String collectionName) {
+        if (!tryConnectToDatabase()) {
+            logger.warn("mongodb: No connection to database. Keeping documents for {} until it is available.",
+                    collectionName);
+            return null;
+        }
+        return connectToCollection(collectionName);
+    }
+
+    /**
+     * Writes the documents waiting for a bulk insert, so that they are included in queries.
+     */
+    private void flushBulkWriter() {
+        MongoDBBulkWriter localBulkWriter = bulkWriter;
+        if (localBulkWriter != null) {
+            localBulkWriter.flush();
+        }
+    }
+
     /**
      * Disconnects from the database
      */
@@ -243,6 +331,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
 
         cl = null;
+        collections.clear();
     }
 
     @Override
@@ -256,6 +345,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         if (alias != null) {
             filter.setItemName(alias);
         }
+        flushBulkWriter();
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
@@ -351,6 +441,19 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        String realItemName = item.getName();
+        String name = (alias != null) ? alias : realItemName;
+        String collectionName = collectionPerItem ? name : this.collection;
+        Document obj = createDocument(item, date, state, name);
+
+        MongoDBBulkWriter localBulkWriter = bulkWriter;
+        if (localBulkWriter != null) {
+            // connecting and inserting is done by the bulk writer
+            localBulkWriter.add(collectionName, obj);
+            logger.debug("MongoDB queued {}={}", name, obj.get(MongoDBFields.FIELD_VALUE));
+            return;
+        }
+
         // Connect to mongodb server if we're not already connected
         // If we can't connect, log.
         if (!tryConnectToDatabase()) {
@@ -360,10 +463,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String realItemName = item.getName();
-        String name = (alias != null) ? alias : realItemName;
-        String collectionName = collectionPerItem ? name : this.collection;
-
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -372,24 +471,28 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        try {
+            collection.insertOne(obj);
+        } catch (org.bson.BsonMaximumSizeExceededException e) {
+            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
+            throw e;
+        }
+        logger.debug("MongoDB save {}={}", name, obj.get(MongoDBFields.FIELD_VALUE));
+    }
+
+    private Document createDocument(Item item, Date date, State state, String name) {
         Object value = MongoDBTypeConversions.convertValue(state);
 
         Document obj = new Document();
         obj.put(MongoDBFields.FIELD_ID, new ObjectId());
         obj.put(MongoDBFields.FIELD_ITEM, name);
-        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
+        obj.put(MongoDBFields.FIELD_REALNAME, item.getName());
         obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
         obj.put(MongoDBFields.FIELD_VALUE, value);
         if (item instanceof NumberItem && state instanceof QuantityType<?>) {
             obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
         }
-        try {
-            collection.insertOne(obj);
-        } catch (org.bson.BsonMaximumSizeExceededException e) {
-            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
-            throw e;
-        }
-        logger.debug("MongoDB save {}={}", name, value);
+        return obj;
     }
 
     @Nullable
@@ -472,6 +575,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     @Override
     public boolean remove(FilterCriteria filter) {
+        flushBulkWriter();
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
@@ -471,6 +471,49 @@ public class MongoDBPersistenceServiceTest {
         }
     }
 
+    /**
+     * Tests the store method of MongoDBPersistenceService with bulk inserts.
+     *
+     * This test checks if documents waiting for a bulk insert are written before a query, so that the query
+     * includes them.
+     * It uses different database backends provided by the provideDatabaseBackends method.
+     *
+     * @param dbContainer The container running the MongoDB instance.
+     */
+    @ParameterizedTest
+    @MethodSource("org.openhab.persistence.mongodb.internal.DataCreationHelper#provideDatabaseBackends")
+    public void testQueryNumberItemsWithBulkInserts(DatabaseTestContainer dbContainer) {
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testCollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            setupResult.config.put("bulkSize", 100);
+            setupResult.config.put("bulkInterval", 60000);
+
+            NumberItem itemReg = DataCreationHelper.createNumberItem("TestItem", 0);
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem")).thenReturn(itemReg);
+            } catch (ItemNotFoundException e) {
+            }
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            // Store less items than the bulk size
+            for (int i = 0; i < 10; i++) {
+                service.store(DataCreationHelper.createNumberItem("TestItem", i), null);
+            }
+
+            // Execution
+            Iterable<HistoricItem> result = service.query(DataCreationHelper.createFilterCriteria("TestItem"));
+
+            // Verification
+            VerificationHelper.verifyQueryResult(result, 0, 1, 10);
+            service.deactivate(1);
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
     /**
      * Tests the query method of MongoDBPersistenceService with NumberItems in multiple collections.
      *
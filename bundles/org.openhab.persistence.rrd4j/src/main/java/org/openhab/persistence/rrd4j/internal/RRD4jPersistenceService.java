@@ -20,19 +20,26 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -83,10 +90,13 @@ import org.rrd4j.ConsolFun;
 import org.rrd4j.DsType;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.FetchRequest;
+import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
 import org.rrd4j.core.RrdDbPool;
 import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
 import org.rrd4j.core.Sample;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -115,6 +125,26 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private record Point(long timestamp, double value) {
+    }
+
+    private record StorageConfig(String backend, int syncPeriod, int poolCapacity) {
+    }
+
+    /**
+     * A point-in-time view of the database pool.
+     *
+     * @param backend the configured backend
+     * @param syncPeriod the sync period of the memory-mapped backend in seconds
+     * @param capacity the maximum number of simultaneously open databases
+     * @param openFiles the number of currently open databases
+     * @param hits the number of requests for an already open database
+     * @param misses the number of requests that had to open the database file
+     */
+    public record PoolStatistics(String backend, int syncPeriod, int capacity, int openFiles, long hits,
+            long misses) {
+    }
+
     public static final String SERVICE_ID = "rrd4j";
 
     private static final String DEFAULT_OTHER = "default_other";
@@ -124,9 +154,18 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private static final Set<String> SUPPORTED_TYPES = Set.of(CoreItemFactory.SWITCH, CoreItemFactory.CONTACT,
             CoreItemFactory.DIMMER, CoreItemFactory.NUMBER, CoreItemFactory.ROLLERSHUTTER, CoreItemFactory.COLOR);
 
+    private static final int WRITER_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final long WRITER_SHUTDOWN_TIMEOUT_SECONDS = 30;
+
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory("RRD4j"));
 
+    // writes to different database files run in parallel, writes to the same file are serialized by its writer
+    private final ExecutorService writerPool = Executors.newFixedThreadPool(WRITER_THREADS,
+            new NamedThreadFactory("RRD4j-writer"));
+    private final Map<String, DatabaseWriter> writers = new ConcurrentHashMap<>();
+    private final RRD4jWriteStatistics writeStatistics = new RRD4jWriteStatistics();
+
     private final Map<String, RrdDefConfig> rrdDefs = new ConcurrentHashMap<>();
 
     private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
@@ -135,7 +174,21 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private static final Path DB_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "rrd4j").toAbsolutePath();
 
-    private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
+    private static final String CONFIG_BACKEND = "backend";
+    private static final String CONFIG_SYNC_PERIOD = "syncPeriod";
+    private static final String CONFIG_POOL_CAPACITY = "poolCapacity";
+    private static final Set<String> STORAGE_CONFIG_KEYS = Set.of(CONFIG_BACKEND, CONFIG_SYNC_PERIOD,
+            CONFIG_POOL_CAPACITY);
+
+    private static final String BACKEND_FILE = "file";
+    private static final String BACKEND_NIO = "nio";
+
+    private final StorageConfig storageConfig;
+    private final RrdBackendFactory backendFactory;
+    private final RrdDbPool databasePool;
+
+    private final LongAdder poolHits = new LongAdder();
+    private final LongAdder poolMisses = new LongAdder();
 
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
@@ -145,8 +198,16 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return DB_FOLDER.resolve(name + ".rrd");
     }
 
-    public static RrdDbPool getDatabasePool() {
-        return DATABASE_POOL;
+    /**
+     * Returns a builder for opening databases through the pool of this service with the configured backend.
+     *
+     * @return a new {@link Builder}
+     */
+    public Builder getDatabaseBuilder() {
+        Builder builder = RrdDb.getBuilder();
+        builder.setBackendFactory(backendFactory);
+        builder.setPool(databasePool);
+        return builder;
     }
 
     private final ScheduledFuture<?> storeJob;
@@ -154,6 +215,14 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
+        storageConfig = readStorageConfig(config);
+        backendFactory = BACKEND_NIO.equals(storageConfig.backend())
+                ? new RrdNioBackendFactory(storageConfig.syncPeriod())
+                : new RrdRandomAccessFileBackendFactory();
+        databasePool = new RrdDbPool();
+        databasePool.setCapacity(storageConfig.poolCapacity());
+        logger.debug("Using rrd4j backend '{}' (sync period {}s) with a pool capacity of {}", storageConfig.backend(),
+                storageConfig.syncPeriod(), storageConfig.poolCapacity());
         storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
         modified(config);
         active = true;
@@ -203,6 +272,12 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         defaultOther.addArchives("LAST,0.5,1,720:LAST,0.5,12,10080:LAST,0.5,180,35040:LAST,0.5,2880,21900");
         rrdDefs.put(DEFAULT_OTHER, defaultOther);
 
+        if (active && !readStorageConfig(config).equals(storageConfig)) {
+            // the pool and the backend cannot be replaced while databases are open
+            logger.info("Changes of '{}', '{}' and '{}' take effect after a restart of the RRD4j persistence service",
+                    CONFIG_BACKEND, CONFIG_SYNC_PERIOD, CONFIG_POOL_CAPACITY);
+        }
+
         if (config.isEmpty()) {
             logger.debug("using default configuration only");
             return;
@@ -217,6 +292,11 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 continue;
             }
 
+            if (STORAGE_CONFIG_KEYS.contains(key)) {
+                // already handled by readStorageConfig
+                continue;
+            }
+
             String[] subkeys = key.split("\\.");
             if (subkeys.length != 2) {
                 logger.debug("config '{}' should have the format 'name.configkey'", key);
@@ -267,6 +347,36 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private StorageConfig readStorageConfig(final Map<String, Object> config) {
+        String backend = Objects.toString(config.getOrDefault(CONFIG_BACKEND, BACKEND_FILE)).trim()
+                .toLowerCase(Locale.ROOT);
+        if (!BACKEND_FILE.equals(backend) && !BACKEND_NIO.equals(backend)) {
+            logger.warn("Ignoring unknown backend '{}', using '{}'", backend, BACKEND_FILE);
+            backend = BACKEND_FILE;
+        }
+        int syncPeriod = getPositiveInt(config, CONFIG_SYNC_PERIOD, RrdNioBackendFactory.DEFAULT_SYNC_PERIOD);
+        int poolCapacity = getPositiveInt(config, CONFIG_POOL_CAPACITY, RrdDbPool.INITIAL_CAPACITY);
+
+        return new StorageConfig(backend, syncPeriod, poolCapacity);
+    }
+
+    private int getPositiveInt(final Map<String, Object> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value == null || value.toString().isBlank()) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.toString().trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        logger.warn("Ignoring illegal value '{}' for '{}', using {}", value, key, defaultValue);
+        return defaultValue;
+    }
+
     @Deactivate
     protected void deactivate() {
         active = false;
@@ -274,6 +384,22 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+        writerPool.shutdown();
+        try {
+            if (!writerPool.awaitTermination(WRITER_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Not all values could be written to the rrd4j databases within {} seconds.",
+                        WRITER_SHUTDOWN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // all databases are closed by now, this stops the sync thread of the memory-mapped backend
+        try {
+            backendFactory.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close the rrd4j backend: {}", e.getMessage());
+        }
     }
 
     @Override
@@ -341,20 +467,29 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private void doStore(boolean force) {
         long now = System.currentTimeMillis() / 1000;
+        Map<String, List<Point>> points = new HashMap<>();
         while (!storageMap.isEmpty()) {
             Key key = storageMap.firstKey();
             if (now > key.timestamp || force) {
                 // no new elements can be added for this timestamp because we are already past that time or the service
                 // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
+                Map.Entry<Key, Double> entry = storageMap.pollFirstEntry();
+                if (entry != null) {
+                    Key polledKey = entry.getKey();
+                    points.computeIfAbsent(polledKey.name, k -> new ArrayList<>())
+                            .add(new Point(polledKey.timestamp, entry.getValue()));
+                }
             } else {
-                return;
+                break;
             }
         }
+        // the storage map is sorted by timestamp, so the points of each database are in ascending order
+        points.forEach((name, databasePoints) -> writers.computeIfAbsent(name, DatabaseWriter::new)
+                .enqueue(databasePoints));
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
+    private void writePointsToDatabase(String name, List<Point> points) {
+        long start = System.nanoTime();
         RrdDb db = null;
         try {
             db = getDB(name, true);
@@ -362,10 +497,26 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
         }
         if (db == null) {
+            writeStatistics.record(0, points.size(), System.nanoTime() - start);
             return;
         }
 
+        int written = 0;
         ConsolFun function = getConsolidationFunction(db);
+        for (Point point : points) {
+            if (writePointToDatabase(db, function, name, point.value, point.timestamp)) {
+                written++;
+            }
+        }
+        try {
+            db.close();
+        } catch (IOException e) {
+            logger.debug("Error closing rrd4j database: {}", e.getMessage());
+        }
+        writeStatistics.record(written, points.size() - written, System.nanoTime() - start);
+    }
+
+    private boolean writePointToDatabase(RrdDb db, ConsolFun function, String name, double value, long timestamp) {
         if (function != ConsolFun.AVERAGE) {
             try {
                 // we store the last value again, so that the value change
@@ -396,14 +547,31 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             sample.setValue(DATASOURCE_STATE, storeValue);
             sample.update();
             logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database", name, storeValue, timestamp);
+            return true;
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
+            return false;
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
+    }
+
+    /**
+     * Returns the statistics of the write path: the samples waiting to be written and the write latency per database.
+     *
+     * @return the current write statistics
+     */
+    public RRD4jWriteStatistics.Snapshot getWriteStatistics() {
+        int pending = writers.values().stream().mapToInt(DatabaseWriter::size).sum();
+        return writeStatistics.snapshot(storageMap.size(), pending, writers.size());
+    }
+
+    /**
+     * Returns the statistics of the database pool. A hit means the database was already open when it was requested.
+     *
+     * @return the current pool statistics
+     */
+    public PoolStatistics getPoolStatistics() {
+        return new PoolStatistics(storageConfig.backend(), storageConfig.syncPeriod(), databasePool.getCapacity(),
+                databasePool.getOpenFileCount(), poolHits.sum(), poolMisses.sum());
     }
 
     @Override
@@ -658,14 +826,18 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
         try {
-            Builder builder = RrdDb.getBuilder();
-            builder.setPool(DATABASE_POOL);
+            Builder builder = getDatabaseBuilder();
 
             if (Files.exists(path)) {
+                if (databasePool.getOpenCount(path.toString()) > 0) {
+                    poolHits.increment();
+                } else {
+                    poolMisses.increment();
+                }
                 // recreate the RrdDb instance from the file
                 builder.setPath(path.toString());
                 db = builder.build();
@@ -934,4 +1106,58 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return List.of(PersistenceStrategy.Globals.RESTORE, PersistenceStrategy.Globals.CHANGE,
                 new PersistenceCronStrategy("everyMinute", "0 * * * * ?"));
     }
+
+    /**
+     * The {@link DatabaseWriter} collects the points of a single database and writes them on the writer pool. At most
+     * one write task per database is scheduled at a time, so points are written in order while different databases
+     * are written in parallel.
+     */
+    private class DatabaseWriter implements Runnable {
+        private final String name;
+        private final Queue<Point> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        DatabaseWriter(String name) {
+            this.name = name;
+        }
+
+        int size() {
+            return size.get();
+        }
+
+        void enqueue(List<Point> points) {
+            pending.addAll(points);
+            size.addAndGet(points.size());
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    writerPool.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // this happens if the system is shut down
+                    scheduled.set(false);
+                    logger.debug("Could not schedule write to rrd4j database '{}': {}", name, e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                List<Point> points = new ArrayList<>();
+                Point point;
+                while ((point = pending.poll()) != null) {
+                    points.add(point);
+                }
+                if (!points.isEmpty()) {
+                    try {
+                        writePointsToDatabase(name, points);
+                    } finally {
+                        size.addAndGet(-points.size());
+                    }
+                }
+                scheduled.set(false);
+                // points that were added after draining the queue but before resetting the flag are written as well
+            } while (!pending.isEmpty() && scheduled.compareAndSet(false, true));
+        }
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link RRD4jWriteStatistics} collects the number of written samples and the time spent writing to the
+ * databases.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jWriteStatistics {
+
+    /**
+     * A point-in-time view of the write statistics.
+     *
+     * @param queued the number of samples waiting for their timestamp to pass
+     * @param pending the number of samples handed to the writers but not yet written
+     * @param databases the number of databases written since the service was started
+     * @param writes the number of database writes, each covering all pending samples of one database
+     * @param written the number of successfully written samples
+     * @param failed the number of samples that could not be written
+     * @param averageWriteMillis the average duration of a database write
+     * @param maxWriteMillis the longest duration of a database write
+     */
+    public record Snapshot(int queued, int pending, int databases, long writes, long written, long failed,
+            double averageWriteMillis, double maxWriteMillis) {
+    }
+
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    void record(int writtenSamples, int failedSamples, long nanos) {
+        writes.increment();
+        written.add(writtenSamples);
+        failed.add(failedSamples);
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    Snapshot snapshot(int queued, int pending, int databases) {
+        long count = writes.sum();
+        double average = count == 0 ? 0.0 : totalNanos.sum() / (count * 1_000_000.0);
+        return new Snapshot(queued, pending, databases, count, written.sum(), failed.sum(), average,
+                maxNanos.get() / 1_000_000.0);
+    }
+}
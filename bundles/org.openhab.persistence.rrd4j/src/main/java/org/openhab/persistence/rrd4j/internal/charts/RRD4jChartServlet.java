@@ -21,8 +21,12 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import javax.imageio.ImageIO;
 import javax.servlet.Servlet;
@@ -38,6 +42,7 @@ import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.registry.PersistenceServiceConfiguration;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
 import org.openhab.core.ui.chart.ChartProvider;
@@ -105,19 +110,46 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             entry("Y", Duration.ofDays(365))//
     );
 
+    private static final int MAX_CACHED_CHARTS = 50;
+    private static final long MAX_CHART_AGE_SECONDS = 300;
+
+    private record ChartKey(@Nullable String theme, long period, int height, int width, @Nullable String items,
+            @Nullable String groups, @Nullable Integer dpi, @Nullable Boolean legend) {
+    }
+
+    private record RenderedChart(BufferedImage image, long validFrom, long validUntil) {
+        boolean isValidAt(long time) {
+            return time >= validFrom && time < validUntil;
+        }
+    }
+
+    // least recently used charts are evicted, pending renderings stay reachable through their waiting requests
+    private final Map<ChartKey, CompletableFuture<RenderedChart>> chartCache = Collections
+            .synchronizedMap(new LinkedHashMap<>(MAX_CACHED_CHARTS, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ChartKey, CompletableFuture<RenderedChart>> eldest) {
+                    return size() > MAX_CACHED_CHARTS;
+                }
+            });
+
     private final HttpService httpService;
     private final ItemUIRegistry itemUIRegistry;
     private final TimeZoneProvider timeZoneProvider;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
+    private final PersistenceServiceRegistry persistenceServiceRegistry;
 
     @Activate
     public RRD4jChartServlet(final @Reference HttpService httpService, final @Reference ItemUIRegistry itemUIRegistry,
             final @Reference TimeZoneProvider timeZoneProvider,
-            final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry) {
+            final @Reference PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry,
+            final @Reference PersistenceServiceRegistry persistenceServiceRegistry) {
         this.httpService = httpService;
         this.itemUIRegistry = itemUIRegistry;
         this.timeZoneProvider = timeZoneProvider;
         this.persistenceServiceConfigurationRegistry = persistenceServiceConfigurationRegistry;
+        this.persistenceServiceRegistry = persistenceServiceRegistry;
     }
 
     @Activate
@@ -133,6 +165,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     @Deactivate
     protected void deactivate() {
         httpService.unregister(SERVLET_NAME);
+        chartCache.clear();
     }
 
     @Override
@@ -175,6 +208,15 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         }
     }
 
+    private Builder getDatabaseBuilder() {
+        // open the databases through the pool of the persistence service, so that open files are shared
+        if (persistenceServiceRegistry
+                .get(RRD4jPersistenceService.SERVICE_ID) instanceof RRD4jPersistenceService service) {
+            return service.getDatabaseBuilder();
+        }
+        return RrdDb.getBuilder();
+    }
+
     /**
      * Adds a line for the item to the graph definition.
      * The color of the line is determined by the counter, it simply picks the according index from LINECOLORS (and
@@ -183,25 +225,28 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
      * @param graphDef the graph definition to fill
      * @param item the item to add a line for
      * @param counter defines the number of the datasource and is used to determine the line color
+     * @return the step of the database in seconds or 0 if it could not be determined
      */
-    protected void addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter) {
+    protected long addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter) {
         Color color = LINECOLORS[counter % LINECOLORS.length];
         String label = itemUIRegistry.getLabel(item.getName());
         String rrdName = RRD4jPersistenceService.getDatabasePath(alias != null ? alias : item.getName()).toString();
         ConsolFun consolFun;
+        long step;
         if (label != null && label.contains("[") && label.contains("]")) {
             label = label.substring(0, label.indexOf('['));
         }
         try {
-            Builder builder = RrdDb.getBuilder();
-            builder.setPool(RRD4jPersistenceService.getDatabasePool());
+            Builder builder = getDatabaseBuilder();
             builder.setPath(rrdName);
 
             RrdDb db = builder.build();
             consolFun = db.getRrdDef().getArcDefs()[0].getConsolFun();
+            step = db.getHeader().getStep();
             db.close();
         } catch (IOException e) {
             consolFun = ConsolFun.MAX;
+            step = 0;
         }
         if (item instanceof NumberItem) {
             // we only draw a line
@@ -215,6 +260,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             graphDef.area(Integer.toString(counter), areaColor);
             graphDef.line(Integer.toString(counter), color, label, 2);
         }
+        return step;
     }
 
     @Override
@@ -247,7 +293,49 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     public BufferedImage createChart(@Nullable String service, @Nullable String theme, ZonedDateTime startTime,
             ZonedDateTime endTime, int height, int width, @Nullable String items, @Nullable String groups,
             @Nullable Integer dpi, @Nullable Boolean legend) throws ItemNotFoundException {
-        RrdGraphDef graphDef = new RrdGraphDef(startTime.toEpochSecond(), endTime.toEpochSecond());
+        long end = endTime.toEpochSecond();
+        long period = end - startTime.toEpochSecond();
+        ChartKey key = new ChartKey(theme, period, height, width, items, groups, dpi, legend);
+
+        CompletableFuture<RenderedChart> rendering = new CompletableFuture<>();
+        CompletableFuture<RenderedChart> chart = chartCache.compute(key,
+                (k, cached) -> cached != null && (!cached.isDone() || isValid(cached, end)) ? cached : rendering);
+        if (chart == rendering) {
+            // this request renders the chart, concurrent requests for the same chart wait for the result
+            try {
+                rendering.complete(renderChart(startTime, endTime, height, width, items, groups));
+            } catch (ItemNotFoundException | RuntimeException e) {
+                chartCache.remove(key, rendering);
+                rendering.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return chart.join().image();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ItemNotFoundException itemNotFoundException) {
+                throw itemNotFoundException;
+            } else if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private boolean isValid(CompletableFuture<RenderedChart> chart, long end) {
+        return !chart.isCompletedExceptionally() && chart.join().isValidAt(end);
+    }
+
+    private RenderedChart renderChart(ZonedDateTime startTime, ZonedDateTime endTime, int height, int width,
+            @Nullable String items, @Nullable String groups) throws ItemNotFoundException {
+        long start = startTime.toEpochSecond();
+        long end = endTime.toEpochSecond();
+        // there is at most one value per pixel, so fetching more detailed archives is not necessary
+        long pixelStep = Math.max(1, (end - start) / Math.max(1, width));
+
+        RrdGraphDef graphDef = new RrdGraphDef(start, end);
+        graphDef.setStep(pixelStep);
         graphDef.setWidth(width);
         graphDef.setHeight(height);
         graphDef.setAntiAliasing(true);
@@ -260,6 +348,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 .get(RRD4jPersistenceService.SERVICE_ID);
 
         int seriesCounter = 0;
+        long step = 0;
 
         // Loop through all the items
         if (items != null) {
@@ -267,7 +356,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             for (String itemName : itemNames) {
                 String alias = config != null ? config.getAliases().get(itemName) : null;
                 Item item = itemUIRegistry.getItem(itemName);
-                addLine(graphDef, item, alias, seriesCounter++);
+                step = Math.max(step, addLine(graphDef, item, alias, seriesCounter++));
             }
         }
 
@@ -279,7 +368,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 if (item instanceof GroupItem groupItem) {
                     for (Item member : groupItem.getMembers()) {
                         String alias = config != null ? config.getAliases().get(member.getName()) : null;
-                        addLine(graphDef, member, alias, seriesCounter++);
+                        step = Math.max(step, addLine(graphDef, member, alias, seriesCounter++));
                     }
                 } else {
                     throw new ItemNotFoundException("Item '" + item.getName() + "' defined in groups is not a group.");
@@ -293,7 +382,11 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             BufferedImage bi = new BufferedImage(graph.getRrdGraphInfo().getWidth(),
                     graph.getRrdGraphInfo().getHeight(), BufferedImage.TYPE_INT_RGB);
             graph.render(bi.getGraphics());
-            return bi;
+
+            // the chart does not change until the next value is stored or the next pixel is reached
+            long bucket = Math.max(step, Math.min(pixelStep, MAX_CHART_AGE_SECONDS));
+            long validFrom = end - Math.floorMod(end, bucket);
+            return new RenderedChart(bi, validFrom, validFrom + bucket);
         } catch (IOException e) {
             throw new UncheckedIOException("Error generating RrdGraph", e);
         }
@@ -36,6 +36,7 @@ import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.registry.PersistenceServiceConfiguration;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
 import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService;
+import org.openhab.persistence.rrd4j.internal.RRD4jWriteStatistics;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -52,8 +53,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
     private static final String CMD_LIST = "list";
     private static final String CMD_CHECK = "check";
     private static final String CMD_CLEAN = "clean";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN),
-            false);
+    private static final String CMD_STATISTICS = "statistics";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN, CMD_STATISTICS), false);
 
     private final PersistenceServiceRegistry persistenceServiceRegistry;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
@@ -89,6 +91,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         } else if (args.length >= 1 && args.length <= 2 && CMD_CLEAN.equalsIgnoreCase(args[0])) {
             checkAndClean(persistenceService, console, args.length == 2 ? args[1] : null, false);
             return;
+        } else if (args.length == 1 && CMD_STATISTICS.equalsIgnoreCase(args[0])) {
+            printStatistics(persistenceService, console);
+            return;
         }
         printUsage(console);
     }
@@ -152,11 +157,31 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         console.println(nb + " files " + (checkOnly ? "to delete." : "deleted."));
     }
 
+    private void printStatistics(RRD4jPersistenceService persistenceService, Console console) {
+        RRD4jWriteStatistics.Snapshot statistics = persistenceService.getWriteStatistics();
+        console.println("Write statistics...");
+        console.println("  - samples waiting for their timestamp: " + statistics.queued());
+        console.println("  - samples waiting to be written: " + statistics.pending());
+        console.println("  - databases: " + statistics.databases());
+        console.println("  - database writes: " + statistics.writes());
+        console.println("  - samples written: " + statistics.written() + ", failed: " + statistics.failed());
+        console.println(String.format("  - write time: avg %.2f ms, max %.2f ms", statistics.averageWriteMillis(),
+                statistics.maxWriteMillis()));
+
+        RRD4jPersistenceService.PoolStatistics pool = persistenceService.getPoolStatistics();
+        console.println("Database pool...");
+        console.println("  - backend: " + pool.backend()
+                + ("nio".equals(pool.backend()) ? " (sync period " + pool.syncPeriod() + "s)" : ""));
+        console.println("  - open files: " + pool.openFiles() + " of " + pool.capacity());
+        console.println("  - hits: " + pool.hits() + ", misses: " + pool.misses());
+    }
+
     @Override
     public List<String> getUsages() {
         return List.of(buildCommandUsage(CMD_LIST, "list Round Robin Database files"),
                 buildCommandUsage(CMD_CHECK, "check for RRD files without existing item"),
-                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"));
+                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"),
+                buildCommandUsage(CMD_STATISTICS, "show statistics of the write queue and the database pool"));
     }
 
     @Override
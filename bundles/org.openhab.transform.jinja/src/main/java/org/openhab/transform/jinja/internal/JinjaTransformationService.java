@@ -13,12 +13,10 @@
 package org.openhab.transform.jinja.internal;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -31,23 +29,47 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.InterpretException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by Jinja2 Expressions.
  *
+ * <p>
+ * Parsed templates are cached, and JSON values are bound lazily, so that only the parts of a value a template uses
+ * are converted.
+ *
  * @author Jochen Klein - Initial contribution
+ * @author Julio Gesser - Cache parsed templates and bind JSON lazily
  *
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=JINJA" })
 public class JinjaTransformationService implements TransformationService {
 
+    private static final int TEMPLATE_CACHE_SIZE = 500;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
     private final Jinjava jinjava = new Jinjava();
 
+    // parsed templates, the least recently used template is evicted
+    private final Map<String, Node> templateCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, Node> eldest) {
+            return size() > TEMPLATE_CACHE_SIZE;
+        }
+    };
+
     /**
      * Transforms the input <code>value</code> by Jinja template.
      *
@@ -65,14 +87,20 @@ public class JinjaTransformationService implements TransformationService {
         bindings.put("value", value);
 
         try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
+            JsonNode tree = OBJECT_MAPPER.readTree(value);
+            bindings.put("value_json", JsonBindings.toObject(tree));
         } catch (IOException e) {
             // ok, then value_json is null...
         }
 
         try {
-            transformationResult = jinjava.render(template, bindings);
+            Node root = getParsedTemplate(template);
+            if (root != null) {
+                transformationResult = render(template, root, bindings);
+            } else {
+                // let Jinjava report the errors of the template
+                transformationResult = jinjava.render(template, bindings);
+            }
         } catch (FatalTemplateErrorsException e) {
             throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
         }
@@ -82,33 +110,60 @@ public class JinjaTransformationService implements TransformationService {
         return transformationResult;
     }
 
-    private static @Nullable Object toObject(JsonNode node) {
-        switch (node.getNodeType()) {
-            case ARRAY: {
-                List<@Nullable Object> result = new ArrayList<>();
-                for (JsonNode el : node) {
-                    result.add(toObject(el));
-                }
-                return result;
-            }
-            case NUMBER:
-                return node.decimalValue();
-            case OBJECT: {
-                Map<String, @Nullable Object> result = new HashMap<>();
-                Iterator<Entry<String, JsonNode>> it = node.fields();
-                while (it.hasNext()) {
-                    Entry<String, JsonNode> field = it.next();
-                    result.put(field.getKey(), toObject(field.getValue()));
-                }
-                return result;
+    /**
+     * Returns the parsed template from the cache, parsing it if needed.
+     *
+     * @return the root node of the template or null if the template has errors
+     */
+    private @Nullable Node getParsedTemplate(String template) {
+        synchronized (templateCache) {
+            Node root = templateCache.get(template);
+            if (root != null) {
+                return root;
             }
-            case STRING:
-                return node.asText();
-            case BOOLEAN:
-                return node.asBoolean();
-            case NULL:
-            default:
+        }
+
+        JinjavaInterpreter interpreter = jinjava.newInterpreter();
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            Node root = interpreter.parse(template);
+            if (!interpreter.getErrorsCopy().isEmpty()) {
                 return null;
+            }
+            synchronized (templateCache) {
+                templateCache.put(template, root);
+            }
+            return root;
+        } catch (InterpretException e) {
+            return null;
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+    }
+
+    /**
+     * Renders a parsed template like {@link Jinjava#render(String, Map)} renders a template string.
+     */
+    private String render(String template, Node root, Map<String, @Nullable Object> bindings)
+            throws FatalTemplateErrorsException {
+        Context globalContext = jinjava.getGlobalContext();
+        Context context = new Context(globalContext, bindings, jinjava.getGlobalConfig().getDisabled());
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava, context, jinjava.getGlobalConfig());
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            String output = interpreter.render(root, true);
+            List<TemplateError> fatalErrors = interpreter.getErrorsCopy().stream()
+                    .filter(error -> error.getSeverity() == ErrorType.FATAL).toList();
+            if (!fatalErrors.isEmpty()) {
+                throw new FatalTemplateErrorsException(template, fatalErrors);
+            }
+            return output;
+        } catch (InterpretException e) {
+            throw new FatalTemplateErrorsException(template, List.of(TemplateError.fromSyntaxError(e)));
+        } finally {
+            // the expressions resolved by the render are also recorded in the global context
+            globalContext.reset();
+            JinjavaInterpreter.popCurrent();
         }
     }
 }
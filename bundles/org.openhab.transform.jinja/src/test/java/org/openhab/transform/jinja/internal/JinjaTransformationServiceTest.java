@@ -113,4 +113,32 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testParsedTemplateIsReused() throws TransformationException {
+        String template = "{{ value_json.AM2301.Temperature }} {{ value_json.TempUnit }}";
+
+        assertEquals("4.7 C", processor.transform(template, "{\"AM2301\":{\"Temperature\":4.7},\"TempUnit\":\"C\"}"));
+        assertEquals("40.1 F",
+                processor.transform(template, "{\"AM2301\":{\"Temperature\":40.1},\"TempUnit\":\"F\"}"));
+    }
+
+    @Test
+    public void testTemplateErrorIsReportedRepeatedly() {
+        String template = "Hello {{{ value_json.string }}!";
+        assertThrows(TransformationException.class, () -> processor.transform(template, "{\"string\": \"world\"}"));
+        assertThrows(TransformationException.class, () -> processor.transform(template, "{\"string\": \"world\"}"));
+    }
+
+    @Test
+    public void testJsonArrayAndIteration() throws TransformationException {
+        String json = "{\"values\":[1,2,3],\"map\":{\"a\":true,\"b\":null}}";
+
+        assertEquals("3", processor.transform("{{ value_json['values'] | length }}", json));
+        assertEquals("2", processor.transform("{{ value_json['values'][1] }}", json));
+        assertEquals("a=true,b=,",
+                processor.transform("{% for k, v in value_json.map.items() %}{{ k }}={{ v }},{% endfor %}", json));
+        assertEquals("true", processor.transform("{{ 'b' in value_json.map }}", json));
+        assertEquals("false", processor.transform("{{ 'c' in value_json.map }}", json));
+    }
 }
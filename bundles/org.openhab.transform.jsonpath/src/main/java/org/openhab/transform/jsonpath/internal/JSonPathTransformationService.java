@@ -12,7 +12,12 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +29,7 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -34,13 +40,66 @@ import com.jayway.jsonpath.PathNotFoundException;
  *
  * @author Gaël L'hopital - Initial contribution
  * @author Sebastian Janzen - Initial contribution
+ * @author Julio Gesser - Cache compiled paths and parsed documents
  */
 @NonNullByDefault
-@Component(property = { "openhab.transform=JSONPATH" })
+@Component(service = { TransformationService.class,
+        JSonPathTransformationService.class }, property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int PATH_CACHE_SIZE = 500;
+    private static final int DOCUMENT_CACHE_SIZE = 16;
+    private static final long DOCUMENT_CACHE_TTL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    // compiled paths, the least recently used path is evicted
+    private final Map<String, JsonPath> pathCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, JsonPath> eldest) {
+            return size() > PATH_CACHE_SIZE;
+        }
+    };
+
+    // recently parsed documents, so that several paths applied to the same source only parse it once
+    private final Map<String, ParsedDocument> documentCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, ParsedDocument> eldest) {
+            return size() > DOCUMENT_CACHE_SIZE;
+        }
+    };
+
+    private final LongAdder pathHits = new LongAdder();
+    private final LongAdder pathMisses = new LongAdder();
+    private final LongAdder documentHits = new LongAdder();
+    private final LongAdder documentMisses = new LongAdder();
+
+    private record ParsedDocument(DocumentContext document, long parsedNanos) {
+    }
+
+    /**
+     * Statistics of the caches of compiled paths and parsed documents.
+     */
+    public record CacheStatistics(long pathHits, long pathMisses, long documentHits, long documentMisses) {
+
+        public double pathHitRate() {
+            return hitRate(pathHits, pathMisses);
+        }
+
+        public double documentHitRate() {
+            return hitRate(documentHits, documentMisses);
+        }
+
+        private static double hitRate(long hits, long misses) {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -62,7 +121,7 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = getDocument(source).read(getPath(jsonPathExpression));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -78,6 +137,55 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    /**
+     * @return the statistics of the caches of compiled paths and parsed documents
+     */
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(pathHits.sum(), pathMisses.sum(), documentHits.sum(), documentMisses.sum());
+    }
+
+    private JsonPath getPath(String jsonPathExpression) {
+        JsonPath path;
+        synchronized (pathCache) {
+            path = pathCache.get(jsonPathExpression);
+        }
+        if (path != null) {
+            pathHits.increment();
+            return path;
+        }
+        pathMisses.increment();
+        path = JsonPath.compile(jsonPathExpression);
+        synchronized (pathCache) {
+            pathCache.put(jsonPathExpression, path);
+        }
+        return path;
+    }
+
+    private DocumentContext getDocument(String source) {
+        long now = System.nanoTime();
+        ParsedDocument parsed;
+        synchronized (documentCache) {
+            // drop documents that were not parsed recently, the sources usually change with every update
+            Iterator<ParsedDocument> iterator = documentCache.values().iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next().parsedNanos() > DOCUMENT_CACHE_TTL_NANOS) {
+                    iterator.remove();
+                }
+            }
+            parsed = documentCache.get(source);
+        }
+        if (parsed != null) {
+            documentHits.increment();
+            return parsed.document();
+        }
+        documentMisses.increment();
+        DocumentContext document = JsonPath.parse(source);
+        synchronized (documentCache) {
+            documentCache.put(source, new ParsedDocument(document, now));
+        }
+        return document;
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -129,4 +129,28 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testDocumentIsParsedOnce() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+        assertEquals("2", processor.transform("$[1].id", new String(JSON_ARRAY)));
+
+        JSonPathTransformationService.CacheStatistics statistics = processor.getCacheStatistics();
+        assertEquals(1, statistics.documentMisses());
+        assertEquals(2, statistics.documentHits());
+        assertEquals(3, statistics.pathMisses());
+    }
+
+    @Test
+    public void testPathIsCompiledOnce() throws TransformationException {
+        assertEquals("1", processor.transform("$[0].id", JSON_ARRAY));
+        assertEquals("1", processor.transform("$[0].id", "[{ \"id\":1 }]"));
+
+        JSonPathTransformationService.CacheStatistics statistics = processor.getCacheStatistics();
+        assertEquals(1, statistics.pathMisses());
+        assertEquals(1, statistics.pathHits());
+        assertEquals(0.5, statistics.pathHitRate());
+        assertEquals(2, statistics.documentMisses());
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A bounded cache of compiled {@link Pattern}s. The least recently used pattern is evicted when the cache is full.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+public class RegExPatternCache {
+
+    public static final int DEFAULT_SIZE = 500;
+
+    private record Key(String regex, int flags) {
+    }
+
+    /**
+     * Statistics of the cache.
+     *
+     * @param hits number of patterns that were found in the cache
+     * @param misses number of patterns that had to be compiled
+     * @param size number of patterns currently in the cache
+     */
+    public record Statistics(long hits, long misses, int size) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private final Map<Key, Pattern> patterns = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<Key, Pattern> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private int maxSize;
+
+    public RegExPatternCache(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+    }
+
+    /**
+     * Returns the compiled pattern, compiling it if it is not in the cache.
+     *
+     * @param regex the regular expression
+     * @param flags the match flags, see {@link Pattern#compile(String, int)}
+     * @return the compiled pattern
+     * @throws PatternSyntaxException if the regular expression is invalid
+     */
+    public Pattern get(String regex, int flags) throws PatternSyntaxException {
+        Key key = new Key(regex, flags);
+        Pattern pattern;
+        synchronized (patterns) {
+            pattern = patterns.get(key);
+        }
+        if (pattern != null) {
+            hits.increment();
+            return pattern;
+        }
+        misses.increment();
+        // compile outside the lock, a pattern compiled concurrently by two threads is harmless
+        pattern = Pattern.compile(regex, flags);
+        synchronized (patterns) {
+            patterns.put(key, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Changes the maximum number of cached patterns, evicting the least recently used patterns if needed.
+     *
+     * @param maxSize the maximum number of patterns, 0 disables caching
+     */
+    public void setMaxSize(int maxSize) {
+        synchronized (patterns) {
+            this.maxSize = Math.max(0, maxSize);
+            Iterator<Key> iterator = patterns.keySet().iterator();
+            while (patterns.size() > this.maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    public Statistics getStatistics() {
+        int size;
+        synchronized (patterns) {
+            size = patterns.size();
+        }
+        return new Statistics(hits.sum(), misses.sum(), size);
+    }
+}
@@ -12,14 +12,20 @@
  */
 package org.openhab.transform.regex.internal;
 
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.osgi.framework.Constants;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,15 +37,42 @@ import org.slf4j.LoggerFactory;
  * <b>Note:</b> the given Regular Expression must contain exactly one group!
  *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
+ * @author Julio Gesser - Cache compiled patterns
  */
 @NonNullByDefault
-@Component(property = { "openhab.transform=REGEX" })
+@Component(service = { TransformationService.class,
+        RegExTransformationService.class }, configurationPid = "org.openhab.regex", property = {
+                "openhab.transform=REGEX", Constants.SERVICE_PID + "=org.openhab.regex" })
+@ConfigurableService(category = "system", label = "RegEx Transformation", description_uri = RegExTransformationService.CONFIG_URI)
 public class RegExTransformationService implements TransformationService {
 
+    protected static final String CONFIG_URI = "transform:regex";
+    private static final String CFG_CACHE_SIZE = "cacheSize";
+
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
 
+    private final RegExPatternCache patternCache = new RegExPatternCache(RegExPatternCache.DEFAULT_SIZE);
+
+    @Activate
+    protected void activate(Map<String, ?> config) {
+        modified(config);
+    }
+
+    @Modified
+    protected void modified(Map<String, ?> config) {
+        patternCache.setMaxSize(ConfigParser.valueAsOrElse(config.get(CFG_CACHE_SIZE), Integer.class,
+                RegExPatternCache.DEFAULT_SIZE));
+    }
+
+    /**
+     * @return the statistics of the cache of compiled patterns
+     */
+    public RegExPatternCache.Statistics getCacheStatistics() {
+        return patternCache.getStatistics();
+    }
+
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
         if (regExpression == null || source == null) {
@@ -56,17 +89,18 @@ public class RegExTransformationService implements TransformationService {
             String regex = substMatcher.group(1);
             String substitution = substMatcher.group(2);
             String options = substMatcher.group(3);
+            Matcher matcher = patternCache.get(regex, 0).matcher(source.trim());
             if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
+                result = matcher.replaceAll(substitution);
             } else {
-                result = source.trim().replaceFirst(regex, substitution);
+                result = matcher.replaceFirst(substitution);
             }
             if (result != null) {
                 return result;
             }
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        Matcher matcher = patternCache.get("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.transform.regex.internal.RegExPatternCache;
+import org.openhab.transform.regex.internal.RegExTransformationService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link RegExCommandExtension} is responsible for handling console commands
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class RegExCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String CMD_STATISTICS = "statistics";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_STATISTICS), false);
+
+    private final RegExTransformationService transformationService;
+
+    @Activate
+    public RegExCommandExtension(final @Reference RegExTransformationService transformationService) {
+        super("regex", "Interact with the RegEx transformation.");
+        this.transformationService = transformationService;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && CMD_STATISTICS.equalsIgnoreCase(args[0])) {
+            RegExPatternCache.Statistics statistics = transformationService.getCacheStatistics();
+            console.println(String.format("Compiled patterns: %d cached, %d hits, %d misses, hit rate %.1f%%",
+                    statistics.size(), statistics.hits(), statistics.misses(), statistics.hitRate() * 100));
+            return;
+        }
+        printUsage(console);
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(CMD_STATISTICS, "show the size, hits and misses of the pattern cache"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
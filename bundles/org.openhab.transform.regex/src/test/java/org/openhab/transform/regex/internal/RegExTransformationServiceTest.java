@@ -75,4 +75,36 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testPatternIsCompiledOnce() throws TransformationException {
+        assertEquals("8", processor.transform(".*?<temp_c data=\"(.*?)\".*", source));
+        assertEquals("8", processor.transform(".*?<temp_c data=\"(.*?)\".*", source));
+        assertEquals("netcast", processor.transform("s/work/cast/g", "network"));
+        assertEquals("netcast", processor.transform("s/work/cast/g", "network"));
+
+        RegExPatternCache.Statistics statistics = processor.getCacheStatistics();
+        assertEquals(2, statistics.misses());
+        assertEquals(2, statistics.hits());
+        assertEquals(2, statistics.size());
+    }
+
+    @Test
+    public void testPatternCacheEvictsLeastRecentlyUsed() {
+        RegExPatternCache cache = new RegExPatternCache(2);
+        cache.get("a", 0);
+        cache.get("b", 0);
+        cache.get("a", 0);
+        cache.get("c", 0);
+        cache.get("a", 0);
+        cache.get("b", 0);
+
+        RegExPatternCache.Statistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.hits());
+        assertEquals(4, statistics.misses());
+        assertEquals(2, statistics.size());
+
+        cache.setMaxSize(0);
+        assertEquals(0, cache.getStatistics().size());
+    }
 }
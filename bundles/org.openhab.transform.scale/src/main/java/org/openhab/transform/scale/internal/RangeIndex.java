@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Finds the value of the first of a list of ranges containing a number with a binary search.
+ *
+ * The bounds of all ranges split the number line into the bounds themselves and the open intervals between them. No
+ * range starts or ends within such an interval, so the first matching range is the same for all of its numbers and is
+ * determined once when the index is built.
+ *
+ * Numbers are compared as doubles first. Rounding to a double keeps the order, so only numbers that round to the same
+ * double as a bound need to be compared as {@link BigDecimal}s.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+class RangeIndex {
+
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    // the distinct bounds of all ranges, in ascending order
+    private final BigDecimal[] bounds;
+    private final double[] approximateBounds;
+    // the value of the first range containing the bound with the same index
+    private final @Nullable String[] boundValues;
+    // the value of the first range containing the numbers below the bound with the same index, the last element for
+    // the numbers above all bounds
+    private final @Nullable String[] intervalValues;
+
+    /**
+     * Builds the index.
+     *
+     * @param ranges the ranges and their values, in the order they are matched
+     */
+    RangeIndex(Map<Range, String> ranges) {
+        TreeSet<BigDecimal> distinctBounds = new TreeSet<>();
+        for (Range range : ranges.keySet()) {
+            if (range.min != null) {
+                distinctBounds.add(range.min);
+            }
+            if (range.max != null) {
+                distinctBounds.add(range.max);
+            }
+        }
+        bounds = distinctBounds.toArray(BigDecimal[]::new);
+        approximateBounds = new double[bounds.length];
+        boundValues = new String[bounds.length];
+        intervalValues = new String[bounds.length + 1];
+
+        for (int i = 0; i < bounds.length; i++) {
+            approximateBounds[i] = bounds[i].doubleValue();
+            boundValues[i] = firstMatch(ranges, bounds[i]);
+        }
+        for (int i = 0; i <= bounds.length; i++) {
+            intervalValues[i] = firstMatch(ranges, sampleOfInterval(i));
+        }
+    }
+
+    /**
+     * Returns the value of the first range containing the number.
+     *
+     * @param value the number
+     * @return the value of the range or null if no range contains the number
+     */
+    @Nullable
+    String get(BigDecimal value) {
+        double approximateValue = value.doubleValue();
+        int low = 0;
+        int high = bounds.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int cmp = Double.compare(approximateValue, approximateBounds[middle]);
+            if (cmp == 0) {
+                cmp = value.compareTo(bounds[middle]);
+            }
+            if (cmp > 0) {
+                low = middle + 1;
+            } else if (cmp < 0) {
+                high = middle - 1;
+            } else {
+                return boundValues[middle];
+            }
+        }
+        return intervalValues[low];
+    }
+
+    /**
+     * @return a number within the interval below the bound with the given index, or above all bounds
+     */
+    private BigDecimal sampleOfInterval(int index) {
+        if (bounds.length == 0) {
+            return BigDecimal.ZERO;
+        } else if (index == 0) {
+            return bounds[0].subtract(BigDecimal.ONE);
+        } else if (index == bounds.length) {
+            return bounds[index - 1].add(BigDecimal.ONE);
+        }
+        return bounds[index - 1].add(bounds[index]).divide(TWO);
+    }
+
+    private static @Nullable String firstMatch(Map<Range, String> ranges, BigDecimal value) {
+        for (Map.Entry<Range, String> entry : ranges.entrySet()) {
+            if (entry.getKey().contains(value)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -154,6 +154,32 @@ public class ScaleTransformServiceTest {
         assertEquals("first", transformedResponse);
     }
 
+    @Test
+    public void testEvaluationOrderAtBounds() throws TransformationException {
+        String evaluationOrder = "scale" + File.separator + "evaluationorder.scale";
+
+        assertEquals("first", processor.transform(evaluationOrder, "10"));
+        assertEquals("second", processor.transform(evaluationOrder, "15"));
+        assertEquals("last", processor.transform(evaluationOrder, "17"));
+        // values that only differ from a bound beyond double precision
+        assertEquals("first", processor.transform(evaluationOrder, "14.99999999999999999999"));
+        assertEquals("second", processor.transform(evaluationOrder, "15.00000000000000000001"));
+        assertEquals("second", processor.transform(evaluationOrder, "16.99999999999999999999"));
+    }
+
+    @Test
+    public void testTransformByScaleLimitsAtBounds() throws TransformationException {
+        String existingscale = "scale" + File.separator + "limits.scale";
+
+        assertEquals("low", processor.transform(existingscale, "9.99999999999999999999"));
+        assertEquals("middle", processor.transform(existingscale, "10"));
+        assertEquals("high", processor.transform(existingscale, "20"));
+        assertEquals("high", processor.transform(existingscale, "299.99999999999999999999"));
+        assertEquals("extreme", processor.transform(existingscale, "300"));
+        assertEquals("extreme", processor.transform(existingscale, "1E+400"));
+        assertEquals("low", processor.transform(existingscale, "-1E+400"));
+    }
+
     @Test
     public void testTransformQuantityType() throws TransformationException {
         QuantityType<Dimensionless> airQuality = new QuantityType<>("992 ppm");
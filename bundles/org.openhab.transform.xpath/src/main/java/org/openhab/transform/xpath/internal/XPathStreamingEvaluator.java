@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.xpath.internal;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Evaluates simple XPath expressions on a {@link XMLStreamReader} without building a DOM.
+ *
+ * Simple expressions are absolute paths of element names without prefixes, predicates or wildcards, optionally
+ * followed by an attribute step ({@code /a/b/@c}) or {@code text()}. Like the evaluation with a DOM, the result is the
+ * string value of the first selected node in document order, or an empty string if no node is selected.
+ *
+ * @author Julio Gesser - Initial contribution
+ */
+@NonNullByDefault
+class XPathStreamingEvaluator {
+
+    private static final String NAME = "[A-Za-z_][\\w.\\-]*";
+    private static final Pattern SIMPLE_PATH = Pattern
+            .compile("(?:/" + NAME + ")+(?:/@" + NAME + "|/text\\(\\))?");
+    private static final String TEXT_STEP = "text()";
+
+    enum Target {
+        ELEMENT,
+        ATTRIBUTE,
+        TEXT
+    }
+
+    /**
+     * A simple path.
+     *
+     * @param elements the names of the elements from the root element on
+     * @param target what is selected from the last element
+     * @param attribute the name of the selected attribute, if the target is an attribute
+     */
+    record SimplePath(List<String> elements, Target target, @Nullable String attribute) {
+    }
+
+    private XPathStreamingEvaluator() {
+        // prevent instantiation
+    }
+
+    /**
+     * Parses an XPath expression if it is a simple path.
+     *
+     * @param expression the XPath expression
+     * @return the simple path or null if the expression needs to be evaluated on a DOM
+     */
+    static @Nullable SimplePath parse(String expression) {
+        if (!SIMPLE_PATH.matcher(expression).matches()) {
+            return null;
+        }
+        List<String> steps = List.of(expression.substring(1).split("/"));
+        String last = steps.getLast();
+        if (TEXT_STEP.equals(last)) {
+            return new SimplePath(steps.subList(0, steps.size() - 1), Target.TEXT, null);
+        } else if (last.startsWith("@")) {
+            return new SimplePath(steps.subList(0, steps.size() - 1), Target.ATTRIBUTE, last.substring(1));
+        }
+        return new SimplePath(steps, Target.ELEMENT, null);
+    }
+
+    /**
+     * Evaluates a simple path. The whole document is read, so that it is checked to be well-formed.
+     *
+     * @param path the path to evaluate
+     * @param reader the reader of the document
+     * @return the string value of the first selected node, an empty string if there is none, or null if the document
+     *         contains a DTD and needs to be evaluated on a DOM
+     * @throws XMLStreamException if the document is not well-formed
+     */
+    static @Nullable String evaluate(SimplePath path, XMLStreamReader reader) throws XMLStreamException {
+        List<String> elements = path.elements();
+        // number of open elements and number of them that match the path
+        int depth = 0;
+        int matched = 0;
+        String result = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.DTD) {
+                // entities may be declared, leave that to the DOM parser
+                return null;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                if (result != null || matched != depth - 1 || matched == elements.size()
+                        || !matches(reader, elements.get(matched))) {
+                    continue;
+                }
+                matched++;
+                if (matched < elements.size()) {
+                    continue;
+                }
+                switch (path.target()) {
+                    case ELEMENT:
+                        result = readStringValue(reader);
+                        depth--;
+                        matched--;
+                        break;
+                    case ATTRIBUTE:
+                        result = readAttribute(reader, path.attribute());
+                        break;
+                    case TEXT:
+                        result = readFirstText(reader);
+                        depth--;
+                        matched--;
+                        break;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (matched == depth) {
+                    matched--;
+                }
+                depth--;
+            }
+        }
+        return result == null ? "" : result;
+    }
+
+    private static boolean matches(XMLStreamReader reader, String name) {
+        String namespace = reader.getNamespaceURI();
+        return (namespace == null || namespace.isEmpty()) && name.equals(reader.getLocalName());
+    }
+
+    /**
+     * Reads the concatenated text of an element and its descendants, up to and including its end element.
+     */
+    private static String readStringValue(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder value = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (isText(event)) {
+                value.append(reader.getText());
+            }
+        }
+        return value.toString();
+    }
+
+    private static @Nullable String readAttribute(XMLStreamReader reader, @Nullable String name) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String namespace = reader.getAttributeNamespace(i);
+            if ((namespace == null || namespace.isEmpty()) && reader.getAttributeLocalName(i).equals(name)) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the first text node that is a child of an element, up to and including the end element. Adjacent
+     * character data and CDATA sections form one text node, child elements, comments and processing instructions
+     * separate them.
+     *
+     * @return the text or null if the element has no text child
+     */
+    private static @Nullable String readFirstText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        String result = null;
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (depth == 1 && result == null && isText(event)) {
+                text.append(reader.getText());
+                continue;
+            }
+            if (result == null && !text.isEmpty()) {
+                result = text.toString();
+            }
+        }
+        return result;
+    }
+
+    private static boolean isText(int event) {
+        return event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                || event == XMLStreamConstants.SPACE;
+    }
+}
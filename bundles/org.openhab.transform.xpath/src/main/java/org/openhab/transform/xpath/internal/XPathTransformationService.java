@@ -12,37 +12,60 @@
  */
 package org.openhab.transform.xpath.internal;
 
+import java.io.IOException;
 import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.openhab.transform.xpath.internal.XPathStreamingEvaluator.SimplePath;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XPath Expressions.
  *
+ * <p>
+ * Simple paths are evaluated while streaming the input, other expressions on a DOM. Parsers and compiled expressions
+ * are not thread-safe, so they are kept in contexts that are used by one transformation at a time and reused
+ * afterwards.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
+ * @author Julio Gesser - Reuse parsers and compiled expressions, streaming evaluation of simple paths
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=XPATH" })
 public class XPathTransformationService implements TransformationService {
 
+    private static final int MAX_IDLE_CONTEXTS = 8;
+    private static final int EXPRESSION_CACHE_SIZE = 100;
+
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
+    private final BlockingQueue<XPathContext> idleContexts = new ArrayBlockingQueue<>(MAX_IDLE_CONTEXTS);
+
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
@@ -51,30 +74,17 @@ public class XPathTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, xpathExpression);
 
-        StringReader stringReader = null;
-
+        XPathContext context = idleContexts.poll();
         try {
-            DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
-            // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
-            domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-            domFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-            domFactory.setXIncludeAware(false);
-            domFactory.setExpandEntityReferences(false);
-            domFactory.setNamespaceAware(true);
-            domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
-
-            stringReader = new StringReader(source);
-            InputSource inputSource = new InputSource(stringReader);
-            inputSource.setEncoding("UTF-8");
-
-            Document doc = builder.parse(inputSource);
-
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
+            if (context == null) {
+                context = new XPathContext();
+            }
 
-            String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
+            SimplePath simplePath = XPathStreamingEvaluator.parse(xpathExpression);
+            String transformationResult = simplePath == null ? null : context.evaluate(simplePath, source);
+            if (transformationResult == null) {
+                transformationResult = context.evaluate(xpathExpression, source);
+            }
 
             logger.debug("transformation resulted in '{}'", transformationResult);
 
@@ -82,9 +92,89 @@ public class XPathTransformationService implements TransformationService {
         } catch (Exception e) {
             throw new TransformationException("transformation throws exceptions", e);
         } finally {
-            if (stringReader != null) {
-                stringReader.close();
+            if (context != null) {
+                context.builder.reset();
+                idleContexts.offer(context);
+            }
+        }
+    }
+
+    private static DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
+        // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
+        domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+        domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        domFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        domFactory.setXIncludeAware(false);
+        domFactory.setExpandEntityReferences(false);
+        domFactory.setNamespaceAware(true);
+        domFactory.setValidating(false);
+        return domFactory.newDocumentBuilder();
+    }
+
+    /**
+     * The parsers and compiled expressions used by one transformation at a time.
+     */
+    private class XPathContext {
+        private final DocumentBuilder builder;
+        private final XPath xpath = XPathFactory.newInstance().newXPath();
+        private final XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+        private final Map<String, XPathExpression> expressions = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, XPathExpression> eldest) {
+                return size() > EXPRESSION_CACHE_SIZE;
+            }
+        };
+
+        XPathContext() throws ParserConfigurationException {
+            builder = newDocumentBuilder();
+            inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        }
+
+        /**
+         * Evaluates a simple path while streaming the source.
+         *
+         * @return the result or null if the source needs to be parsed into a DOM
+         */
+        @Nullable
+        String evaluate(SimplePath path, String source) {
+            try {
+                XMLStreamReader reader = inputFactory.createXMLStreamReader(new StringReader(source));
+                try {
+                    return XPathStreamingEvaluator.evaluate(path, reader);
+                } finally {
+                    reader.close();
+                }
+            } catch (XMLStreamException e) {
+                // let the DOM parser report the error
+                logger.trace("streaming evaluation of '{}' failed: {}", path, e.getMessage());
+                return null;
+            }
+        }
+
+        /**
+         * Evaluates an expression on the DOM of the source.
+         */
+        String evaluate(String xpathExpression, String source)
+                throws SAXException, IOException, XPathExpressionException {
+            InputSource inputSource = new InputSource(new StringReader(source));
+            inputSource.setEncoding("UTF-8");
+
+            Document doc = builder.parse(inputSource);
+
+            return (String) getExpression(xpathExpression).evaluate(doc, XPathConstants.STRING);
+        }
+
+        private XPathExpression getExpression(String xpathExpression) throws XPathExpressionException {
+            XPathExpression expression = expressions.get(xpathExpression);
+            if (expression == null) {
+                expression = xpath.compile(xpathExpression);
+                expressions.put(xpathExpression, expression);
             }
+            return expression;
         }
     }
 }
@@ -38,4 +38,54 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    private static final String PTZ_STATUS = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <PTZStatus version="2.0" >
+                <AbsoluteHigh>
+                    <elevation>0</elevation>
+                    <azimuth>450</azimuth>
+                    <absoluteZoom>10</absoluteZoom>
+                </AbsoluteHigh>
+            </PTZStatus>
+            """;
+
+    @Test
+    public void testSimplePathAttribute() throws TransformationException {
+        assertEquals("6", processor.transform("/xml_api_reply/weather/forecast_conditions/high/@data", source));
+        assertEquals("", processor.transform("/xml_api_reply/weather/forecast_conditions/high/@unknown", source));
+        assertEquals("", processor.transform("/weather/forecast_conditions/high/@data", source));
+    }
+
+    @Test
+    public void testSimplePathElement() throws TransformationException {
+        assertEquals("450", processor.transform("/PTZStatus/AbsoluteHigh/azimuth", PTZ_STATUS));
+        assertEquals("450", processor.transform("/PTZStatus/AbsoluteHigh/azimuth/text()", PTZ_STATUS));
+        // the same expressions with a predicate are evaluated on a DOM
+        assertEquals(processor.transform("/PTZStatus/AbsoluteHigh[1]", PTZ_STATUS),
+                processor.transform("/PTZStatus/AbsoluteHigh", PTZ_STATUS));
+        assertEquals(processor.transform("/PTZStatus/AbsoluteHigh[1]/text()", PTZ_STATUS),
+                processor.transform("/PTZStatus/AbsoluteHigh/text()", PTZ_STATUS));
+    }
+
+    @Test
+    public void testSimplePathMixedContent() throws TransformationException {
+        String xml = "<a>x<![CDATA[1]]><!--c-->y<b>z</b>w</a>";
+        assertEquals("x1yzw", processor.transform("/a", xml));
+        assertEquals("x1", processor.transform("/a/text()", xml));
+        assertEquals(processor.transform("/a[1]/text()", xml), processor.transform("/a/text()", xml));
+    }
+
+    @Test
+    public void testSimplePathIgnoresNamespacedElements() throws TransformationException {
+        String xml = PTZ_STATUS.replace("version=\"2.0\"", "xmlns=\"http://www.hikvision.com/ver20/XMLSchema\"");
+        assertEquals("", processor.transform("/PTZStatus/AbsoluteHigh/azimuth", xml));
+        assertEquals("450", processor.transform("/*[local-name()='PTZStatus']/*[local-name()='AbsoluteHigh']"
+                + "/*[local-name()='azimuth']", xml));
+    }
+
+    @Test
+    public void testSimplePathOnMalformedDocument() {
+        assertThrows(TransformationException.class, () -> processor.transform("/a", "<a>1</a><b>"));
+    }
 }
@@ -22,7 +22,9 @@ import java.nio.file.StandardCopyOption;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 
 /**
@@ -40,7 +42,7 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
             Files.createDirectories(transformHttpPath);
         }
 
-        processor = new XsltTransformationService();
+        processor = new XsltTransformationService(Mockito.mock(WatchService.class));
     }
 
     @Test
@@ -54,4 +56,29 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testStylesheetIsReloadedOnChange() throws TransformationException, IOException {
+        Path xsl = transformHttpPath.resolve("value.xsl");
+        Files.writeString(xsl, stylesheet("temp_c"));
+        assertEquals("8", processor.transform("http/value.xsl", source));
+
+        // the compiled stylesheet is used until the file watcher reports a change
+        Files.writeString(xsl, stylesheet("temp_f"));
+        assertEquals("8", processor.transform("http/value.xsl", source));
+
+        processor.processWatchEvent(WatchService.Kind.MODIFY, Path.of("transform/http/value.xsl"));
+        assertEquals("46", processor.transform("http/value.xsl", source));
+    }
+
+    private static String stylesheet(String element) {
+        return """
+                <xsl:stylesheet version="1.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform">
+                    <xsl:output method="text"/>
+                    <xsl:template match="/">
+                        <xsl:value-of select="//current_conditions/%s/@data"/>
+                    </xsl:template>
+                </xsl:stylesheet>
+                """.formatted(element);
+    }
 }